@@ -1,12 +1,80 @@
 CREATE TABLE IF NOT EXISTS tickets (
     id BIGSERIAL PRIMARY KEY,
+    lot_id VARCHAR(50) NOT NULL DEFAULT 'MAIN',
+    entry_gate VARCHAR(50),
+    exit_gate VARCHAR(50),
+    shift_id VARCHAR(50),
+    cashier_id VARCHAR(50),
     plate_number VARCHAR(50) NOT NULL,
     check_in_time TIMESTAMP NOT NULL,
     check_out_time TIMESTAMP,
     total_price INTEGER,
-    status VARCHAR(20) NOT NULL
+    status VARCHAR(20) NOT NULL,
+    origin_node VARCHAR(100),
+    origin_ticket_id BIGINT,
+    version BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT uq_tickets_origin UNIQUE (origin_node, origin_ticket_id)
 );
 
-CREATE INDEX IF NOT EXISTS idx_tickets_plate_status
-    ON tickets (plate_number, status);
+-- Upgrades a tickets table created by an earlier version of this file before any index below refers to new columns.
+ALTER TABLE tickets ADD COLUMN IF NOT EXISTS lot_id VARCHAR(50) NOT NULL DEFAULT 'MAIN';
+ALTER TABLE tickets ADD COLUMN IF NOT EXISTS entry_gate VARCHAR(50);
+ALTER TABLE tickets ADD COLUMN IF NOT EXISTS exit_gate VARCHAR(50);
+ALTER TABLE tickets ADD COLUMN IF NOT EXISTS shift_id VARCHAR(50);
+ALTER TABLE tickets ADD COLUMN IF NOT EXISTS cashier_id VARCHAR(50);
+ALTER TABLE tickets ADD COLUMN IF NOT EXISTS origin_node VARCHAR(100);
+ALTER TABLE tickets ADD COLUMN IF NOT EXISTS origin_ticket_id BIGINT;
+ALTER TABLE tickets ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
 
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uq_tickets_origin') THEN
+        ALTER TABLE tickets ADD CONSTRAINT uq_tickets_origin UNIQUE (origin_node, origin_ticket_id);
+    END IF;
+END $$;
+
+CREATE INDEX IF NOT EXISTS idx_tickets_lot_plate_status
+    ON tickets (lot_id, plate_number, status);
+
+-- One ACTIVE ticket per plate and lot across every app instance, the importer and ad-hoc inserts.
+-- Rows synced from edge nodes are excluded: an offline edge cannot be refused, so clashes go to ticket_sync_conflicts.
+CREATE UNIQUE INDEX IF NOT EXISTS uq_tickets_active_lot_plate
+    ON tickets (lot_id, plate_number) WHERE status = 'ACTIVE' AND origin_node IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_tickets_lot_status_check_out
+    ON tickets (lot_id, status, check_out_time);
+
+CREATE INDEX IF NOT EXISTS idx_tickets_status_check_out
+    ON tickets (status, check_out_time);
+
+CREATE INDEX IF NOT EXISTS idx_tickets_plate_check_in
+    ON tickets (plate_number, check_in_time);
+
+CREATE INDEX IF NOT EXISTS idx_tickets_shift_status
+    ON tickets (shift_id, status);
+
+CREATE TABLE IF NOT EXISTS shift_summaries (
+    shift_id VARCHAR(50) PRIMARY KEY,
+    cashier_id VARCHAR(50),
+    ticket_count BIGINT NOT NULL,
+    total_amount BIGINT NOT NULL,
+    min_amount INTEGER,
+    max_amount INTEGER,
+    closed_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS ticket_sync_conflicts (
+    id BIGSERIAL PRIMARY KEY,
+    plate_number VARCHAR(50) NOT NULL,
+    origin_node VARCHAR(100) NOT NULL,
+    origin_ticket_id BIGINT NOT NULL,
+    other_origin_node VARCHAR(100),
+    other_ticket_id BIGINT NOT NULL,
+    detected_at TIMESTAMP NOT NULL,
+    CONSTRAINT uq_ticket_sync_conflicts_pair UNIQUE (origin_node, origin_ticket_id, other_ticket_id)
+);
+
+CREATE TABLE IF NOT EXISTS import_checkpoints (
+    source VARCHAR(255) PRIMARY KEY,
+    last_line BIGINT NOT NULL
+);
@@ -0,0 +1,71 @@
+#!/usr/bin/env bash
+# Measures time from JVM launch to the first successful POST /api/checkin for each startup mode.
+# Build first with: ./mvnw -Pfast-startup clean package -DskipTests
+set -euo pipefail
+
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+JAR_NAME="parking-pos-0.0.1-SNAPSHOT.jar"
+CDS_DIR="$ROOT_DIR/target/cds"
+PORT="${PORT:-18080}"
+RUNS="${RUNS:-5}"
+MODES="${MODES:-default kiosk kiosk-cds kiosk-cds-aot}"
+DB_ARGS=(--spring.datasource.url=jdbc:h2:mem:startup --spring.datasource.username=sa --spring.datasource.password=)
+
+if [ ! -f "$CDS_DIR/application.jsa" ]; then
+    echo "Missing $CDS_DIR/application.jsa, build with -Pfast-startup first" >&2
+    exit 1
+fi
+
+now_ms() {
+    date +%s%3N
+}
+
+measure() {
+    local mode="$1"
+    local jvm_args=()
+    local app_args=("${DB_ARGS[@]}" --server.port="$PORT")
+
+    case "$mode" in
+        default) ;;
+        kiosk) app_args+=(--spring.profiles.active=kiosk) ;;
+        kiosk-cds)
+            jvm_args+=(-XX:SharedArchiveFile=application.jsa)
+            app_args+=(--spring.profiles.active=kiosk) ;;
+        kiosk-cds-aot)
+            jvm_args+=(-XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true)
+            app_args+=(--spring.profiles.active=kiosk) ;;
+        *) echo "Unknown mode $mode" >&2; exit 1 ;;
+    esac
+
+    local start
+    start=$(now_ms)
+    (cd "$CDS_DIR" && exec java "${jvm_args[@]}" -jar "$JAR_NAME" "${app_args[@]}" >/dev/null 2>&1) &
+    local pid=$!
+
+    local status=""
+    local plate="START$RANDOM"
+    until [ "$status" = "201" ]; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "Application exited before serving /api/checkin in mode $mode" >&2
+            exit 1
+        fi
+        status=$(curl -s -o /dev/null -w '%{http_code}' -X POST "http://localhost:$PORT/api/checkin" \
+            -H 'Content-Type: application/json' -d "{\"plateNumber\":\"$plate\"}" || true)
+        [ "$status" = "201" ] || sleep 0.02
+    done
+    local elapsed=$(( $(now_ms) - start ))
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    echo "$elapsed"
+}
+
+printf '%-16s %10s %10s %10s\n' "mode" "min_ms" "median_ms" "max_ms"
+for mode in $MODES; do
+    samples=()
+    for _ in $(seq "$RUNS"); do
+        samples+=("$(measure "$mode")")
+    done
+    sorted=($(printf '%s\n' "${samples[@]}" | sort -n))
+    printf '%-16s %10s %10s %10s\n' "$mode" "${sorted[0]}" "${sorted[$(( RUNS / 2 ))]}" "${sorted[$(( RUNS - 1 ))]}"
+done
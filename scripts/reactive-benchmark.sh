@@ -0,0 +1,97 @@
+#!/usr/bin/env bash
+# Runs the same checkout-preview load against the servlet/JPA jar and the reactive WebFlux/R2DBC jar
+# and reports throughput, p99 latency, errors and peak RSS, JVM threads and PostgreSQL connections.
+# Build both jars first:
+#   ./mvnw clean package -DskipTests && ./mvnw -Preactive package -DskipTests
+# Needs wrk, psql and the DB_* variables from .env pointing at a running PostgreSQL.
+# 10k clients need a matching open-file limit, e.g. `ulimit -n 65536`.
+set -euo pipefail
+
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+SERVLET_JAR="$ROOT_DIR/target/parking-pos-0.0.1-SNAPSHOT.jar"
+REACTIVE_JAR="$ROOT_DIR/target/parking-pos-reactive-0.0.1-SNAPSHOT.jar"
+PORT="${PORT:-18082}"
+CLIENTS="${CLIENTS:-10000}"
+THREADS="${THREADS:-8}"
+DURATION="${DURATION:-60s}"
+SEED_PLATES="${SEED_PLATES:-1000}"
+POOL_SIZE="${POOL_SIZE:-10}"
+
+: "${DB_HOST:?set DB_HOST}" "${DB_NAME:?set DB_NAME}" "${DB_USER:?set DB_USER}" "${DB_PASSWORD:?set DB_PASSWORD}"
+
+LUA_SCRIPT=$(mktemp --suffix=.lua)
+trap 'rm -f "$LUA_SCRIPT"' EXIT
+
+db_connections() {
+    PGPASSWORD="$DB_PASSWORD" psql -h "${DB_HOST%%:*}" -p "${DB_PORT:-5432}" -U "$DB_USER" -d "$DB_NAME" -tAc \
+        "SELECT count(*) FROM pg_stat_activity WHERE datname = '$DB_NAME' AND pid <> pg_backend_pid()"
+}
+
+run_stack() {
+    local name="$1"
+    local jar="$2"
+    local prefix="$3"
+    shift 3
+
+    R2DBC_POOL_MAX_SIZE="$POOL_SIZE" R2DBC_POOL_INITIAL_SIZE="$POOL_SIZE" \
+        java -jar "$jar" --server.port="$PORT" "$@" >/dev/null 2>&1 &
+    local pid=$!
+
+    until curl -sf "http://localhost:$PORT/actuator/health" >/dev/null; do
+        kill -0 "$pid" 2>/dev/null || { echo "$name exited during startup" >&2; exit 1; }
+        sleep 0.2
+    done
+
+    for i in $(seq 1 "$SEED_PLATES"); do
+        curl -s -o /dev/null -X POST "http://localhost:$PORT/api/checkin" -H 'Content-Type: application/json' \
+            -d "{\"plateNumber\":\"$prefix$i\"}"
+    done
+
+    cat >"$LUA_SCRIPT" <<LUA
+wrk.method = "POST"
+wrk.headers["Content-Type"] = "application/json"
+request = function()
+    return wrk.format(nil, "/api/checkout/preview", nil,
+        '{"plateNumber":"$prefix' .. math.random(1, $SEED_PLATES) .. '"}')
+end
+LUA
+
+    local samples
+    samples=$(mktemp)
+    (
+        while kill -0 "$pid" 2>/dev/null; do
+            echo "$(ps -o rss= -p "$pid" | tr -d ' ') $(awk '/^Threads:/ { print $2 }' "/proc/$pid/status") $(db_connections)"
+            sleep 1
+        done
+    ) >"$samples" 2>/dev/null &
+    local sampler=$!
+
+    local output
+    output=$(wrk -t"$THREADS" -c"$CLIENTS" -d"$DURATION" --timeout 10s --latency -s "$LUA_SCRIPT" \
+        "http://localhost:$PORT")
+
+    kill "$sampler" 2>/dev/null || true
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+
+    local rps p99 errors peaks
+    rps=$(echo "$output" | awk '/^Requests\/sec:/ { print $2 }')
+    p99=$(echo "$output" | awk '$1 == "99%" { print $2 }')
+    errors=$(echo "$output" | awk '
+        /Socket errors:/ { gsub(",", ""); n += $4 + $6 + $8 + $10 }
+        /Non-2xx or 3xx responses:/ { n += $5 }
+        END { print n + 0 }')
+    peaks=$(awk '{ if ($1 > rss) rss = $1; if ($2 > threads) threads = $2; if ($3 > conns) conns = $3 }
+        END { printf "%d %d %d", rss / 1024, threads, conns }' "$samples")
+    rm -f "$samples"
+
+    read -r rss_mb threads conns <<<"$peaks"
+    printf '%-9s %12s %10s %10s %12s %10s %10s\n' "$name" "$rps" "$p99" "$errors" "$rss_mb" "$threads" "$conns"
+}
+
+printf '%-9s %12s %10s %10s %12s %10s %10s\n' "stack" "req_per_sec" "p99" "errors" "peak_rss_mb" "threads" "db_conns"
+run_stack servlet "$SERVLET_JAR" SRV \
+    --spring.datasource.hikari.maximum-pool-size="$POOL_SIZE" \
+    --parking.admission.enabled=false \
+    --parking.warmup.enabled=false
+run_stack reactive "$REACTIVE_JAR" RCT
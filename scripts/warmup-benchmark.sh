@@ -0,0 +1,59 @@
+#!/usr/bin/env bash
+# Compares checkout latency during the first minute after readiness with warm-up disabled and enabled.
+# Build first with: ./mvnw clean package -DskipTests
+set -euo pipefail
+
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+JAR="$ROOT_DIR/target/parking-pos-0.0.1-SNAPSHOT.jar"
+PORT="${PORT:-18081}"
+DURATION_SECONDS="${DURATION_SECONDS:-60}"
+DB_ARGS=(--spring.datasource.url=jdbc:h2:mem:warmup --spring.datasource.username=sa --spring.datasource.password=)
+
+now_ms() {
+    date +%s%3N
+}
+
+run_mode() {
+    local warmup_enabled="$1"
+    local start
+    start=$(now_ms)
+    java -jar "$JAR" "${DB_ARGS[@]}" --server.port="$PORT" --parking.warmup.enabled="$warmup_enabled" >/dev/null 2>&1 &
+    local pid=$!
+
+    until curl -sf "http://localhost:$PORT/actuator/health/readiness" >/dev/null; do
+        kill -0 "$pid" 2>/dev/null || { echo "Application exited during startup" >&2; exit 1; }
+        sleep 0.05
+    done
+    local ready_ms=$(( $(now_ms) - start ))
+
+    local latencies
+    latencies=$(mktemp)
+    local deadline=$(( $(now_ms) + DURATION_SECONDS * 1000 ))
+    local i=0
+    while [ "$(now_ms)" -lt "$deadline" ]; do
+        i=$(( i + 1 ))
+        local plate="WARM$i"
+        local ticket_id
+        ticket_id=$(curl -s -X POST "http://localhost:$PORT/api/checkin" -H 'Content-Type: application/json' \
+            -d "{\"plateNumber\":\"$plate\"}" | sed -E 's/.*"tickedId":([0-9]+).*/\1/')
+        curl -s -o /dev/null -w '%{time_total}\n' -X POST "http://localhost:$PORT/api/checkout/preview" \
+            -H 'Content-Type: application/json' -d "{\"plateNumber\":\"$plate\"}" >>"$latencies"
+        curl -s -o /dev/null -w '%{time_total}\n' -X POST "http://localhost:$PORT/api/checkout/confirm" \
+            -H 'Content-Type: application/json' -d "{\"ticketId\":$ticket_id}" >>"$latencies"
+    done
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+
+    sort -n "$latencies" | awk -v mode="$warmup_enabled" -v ready="$ready_ms" '
+        { v[NR] = $1 * 1000; sum += $1 * 1000 }
+        END {
+            printf "%-8s %10d %8d %10.2f %10.2f %10.2f %10.2f\n", mode, ready, NR, v[1], sum / NR,
+                v[int(NR * 0.99) > 0 ? int(NR * 0.99) : 1], v[NR]
+        }'
+    rm -f "$latencies"
+}
+
+printf '%-8s %10s %8s %10s %10s %10s %10s\n' "warmup" "ready_ms" "calls" "min_ms" "mean_ms" "p99_ms" "max_ms"
+run_mode false
+run_mode true
@@ -0,0 +1,42 @@
+package com.parkee_test.parking_pos.admission;
+
+public class AdaptiveConcurrencyLimit {
+
+    private static final double SMOOTHING = 0.2;
+    private static final double RTT_TOLERANCE = 1.5;
+    private static final double MIN_GRADIENT = 0.5;
+    // Fraction of the gap closed per slower sample, so the baseline follows a real shift over ~10k samples
+    // instead of snapping to an overloaded RTT and letting the gradient climb back to 1.
+    private static final double MIN_RTT_DRIFT = 0.0001;
+
+    private final int minLimit;
+    private final int maxLimit;
+
+    private double limit;
+    private double minRttNanos = Double.NaN;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+    }
+
+    public synchronized void onSample(long rttNanos, int inflight) {
+        if (Double.isNaN(minRttNanos) || rttNanos < minRttNanos) {
+            minRttNanos = rttNanos;
+        } else {
+            minRttNanos += (rttNanos - minRttNanos) * MIN_RTT_DRIFT;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, RTT_TOLERANCE * minRttNanos / Math.max(1, rttNanos)));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        if (newLimit > limit && inflight < limit / 2) {
+            return;
+        }
+        limit = Math.max(minLimit, Math.min(maxLimit, (1 - SMOOTHING) * limit + SMOOTHING * newLimit));
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+}
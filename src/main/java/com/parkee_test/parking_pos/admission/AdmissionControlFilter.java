@@ -0,0 +1,76 @@
+package com.parkee_test.parking_pos.admission;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final Map<String, AdmissionPriority> PRIORITIES = Map.of(
+            "/api/checkout/confirm", AdmissionPriority.HIGH,
+            "/api/checkin", AdmissionPriority.NORMAL,
+            "/api/checkout/preview", AdmissionPriority.LOW);
+
+    private final AdmissionLimiter limiter;
+    private final String retryAfterSeconds;
+    private final MeterRegistry meterRegistry;
+
+    public AdmissionControlFilter(AdmissionLimiter limiter, AdmissionProperties properties, MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.retryAfterSeconds = String.valueOf(Math.max(1, properties.getRetryAfter().toSeconds()));
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gauge("parking.admission.limit", limiter, AdmissionLimiter::getLimit);
+        meterRegistry.gauge("parking.admission.inflight", limiter, AdmissionLimiter::getInflight);
+        meterRegistry.gauge("parking.admission.queue.depth", limiter, AdmissionLimiter::getQueued);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !PRIORITIES.containsKey(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String endpoint = request.getRequestURI();
+        Optional<AdmissionLimiter.Permit> permit;
+        try {
+            permit = limiter.tryAcquire(PRIORITIES.get(endpoint));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            permit = Optional.empty();
+        }
+
+        if (permit.isEmpty()) {
+            counter("parking.admission.rejected", endpoint).increment();
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            response.getWriter().write("Too many requests, please retry");
+            return;
+        }
+
+        try (AdmissionLimiter.Permit admitted = permit.get()) {
+            if (admitted.wasQueued()) {
+                counter("parking.admission.queued", endpoint).increment();
+            }
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    private Counter counter(String name, String endpoint) {
+        return meterRegistry.counter(name, "endpoint", endpoint);
+    }
+}
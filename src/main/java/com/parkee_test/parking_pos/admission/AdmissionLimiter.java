@@ -0,0 +1,121 @@
+package com.parkee_test.parking_pos.admission;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class AdmissionLimiter {
+
+    private final AdaptiveConcurrencyLimit limit;
+    private final long maxQueueWaitNanos;
+    private final int maxQueued;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    private int inflight;
+    private int queued;
+
+    public AdmissionLimiter(AdaptiveConcurrencyLimit limit, Duration maxQueueWait, int maxQueued) {
+        this.limit = limit;
+        this.maxQueueWaitNanos = maxQueueWait.toNanos();
+        this.maxQueued = maxQueued;
+    }
+
+    public Optional<Permit> tryAcquire(AdmissionPriority priority) throws InterruptedException {
+        lock.lock();
+        try {
+            if (hasCapacity(priority)) {
+                return Optional.of(admit(false));
+            }
+            if (!priority.isQueueable() || queued >= maxQueued) {
+                return Optional.empty();
+            }
+
+            queued++;
+            try {
+                long remaining = maxQueueWaitNanos;
+                while (!hasCapacity(priority)) {
+                    if (remaining <= 0) {
+                        return Optional.empty();
+                    }
+                    remaining = released.awaitNanos(remaining);
+                }
+                return Optional.of(admit(true));
+            } finally {
+                queued--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInflight() {
+        lock.lock();
+        try {
+            return inflight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getQueued() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        return limit.getLimit();
+    }
+
+    private boolean hasCapacity(AdmissionPriority priority) {
+        int allowed = Math.max(1, (int) Math.ceil(limit.getLimit() * priority.getLimitShare()));
+        return inflight < allowed;
+    }
+
+    private Permit admit(boolean wasQueued) {
+        inflight++;
+        return new Permit(System.nanoTime(), inflight, wasQueued);
+    }
+
+    private void release(Permit permit) {
+        limit.onSample(System.nanoTime() - permit.startNanos, permit.inflightAtStart);
+        lock.lock();
+        try {
+            inflight--;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public final class Permit implements AutoCloseable {
+
+        private final long startNanos;
+        private final int inflightAtStart;
+        private final boolean wasQueued;
+        private boolean closed;
+
+        private Permit(long startNanos, int inflightAtStart, boolean wasQueued) {
+            this.startNanos = startNanos;
+            this.inflightAtStart = inflightAtStart;
+            this.wasQueued = wasQueued;
+        }
+
+        public boolean wasQueued() {
+            return wasQueued;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                release(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.parkee_test.parking_pos.admission;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum AdmissionPriority {
+    HIGH(1.0, true),
+    NORMAL(0.8, false),
+    LOW(0.5, false);
+
+    private final double limitShare;
+    private final boolean queueable;
+}
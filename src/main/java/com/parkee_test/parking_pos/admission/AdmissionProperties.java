@@ -0,0 +1,22 @@
+package com.parkee_test.parking_pos.admission;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "parking.admission")
+public class AdmissionProperties {
+
+    private boolean enabled = true;
+    private int initialLimit = 20;
+    private int minLimit = 4;
+    private int maxLimit = 200;
+    private Duration maxQueueWait = Duration.ofMillis(50);
+    private int maxQueued = 50;
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
@@ -0,0 +1,25 @@
+package com.parkee_test.parking_pos.archive;
+
+import java.time.YearMonth;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ArchiveExportResult {
+
+    private final boolean success;
+    private final YearMonth month;
+    private final RevenueSummary summary;
+    private final int deletedFromDatabase;
+    private final String error;
+
+    public static ArchiveExportResult ok(YearMonth month, RevenueSummary summary, int deletedFromDatabase) {
+        return new ArchiveExportResult(true, month, summary, deletedFromDatabase, null);
+    }
+
+    public static ArchiveExportResult error(String message) {
+        return new ArchiveExportResult(false, null, null, 0, message);
+    }
+}
@@ -0,0 +1,22 @@
+package com.parkee_test.parking_pos.archive;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ArchivedTicket {
+
+    private final long id;
+    private final String lotId;
+    private final String plateNumber;
+    private final LocalDateTime checkInTime;
+    private final LocalDateTime checkOutTime;
+    private final int totalPrice;
+    private final String entryGate;
+    private final String exitGate;
+    private final String shiftId;
+    private final String cashierId;
+}
@@ -0,0 +1,80 @@
+package com.parkee_test.parking_pos.archive;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+final class ColumnCodec {
+
+    private ColumnCodec() {
+    }
+
+    static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static int bitsNeeded(long maxValue) {
+        return maxValue == 0 ? 0 : 64 - Long.numberOfLeadingZeros(maxValue);
+    }
+
+    static byte[] packBits(int[] values, int count, int width) {
+        byte[] packed = new byte[(int) ((count * (long) width + 7) / 8)];
+        if (width == 0) {
+            return packed;
+        }
+        long buffer = 0;
+        int bufferedBits = 0;
+        int position = 0;
+        for (int i = 0; i < count; i++) {
+            buffer |= (values[i] & 0xFFFFFFFFL) << bufferedBits;
+            bufferedBits += width;
+            while (bufferedBits >= 8) {
+                packed[position++] = (byte) buffer;
+                buffer >>>= 8;
+                bufferedBits -= 8;
+            }
+        }
+        if (bufferedBits > 0) {
+            packed[position] = (byte) buffer;
+        }
+        return packed;
+    }
+
+    static int unpackBits(ByteBuffer in, int offset, int index, int width) {
+        if (width == 0) {
+            return 0;
+        }
+        long bitPosition = (long) index * width;
+        int firstByte = (int) (bitPosition >>> 3);
+        int shift = (int) (bitPosition & 7);
+        int bytesToRead = (shift + width + 7) >>> 3;
+        long word = 0;
+        for (int i = 0; i < bytesToRead; i++) {
+            word |= (long) (in.get(offset + firstByte + i) & 0xFF) << (8 * i);
+        }
+        return (int) ((word >>> shift) & ((1L << width) - 1));
+    }
+}
@@ -0,0 +1,88 @@
+package com.parkee_test.parking_pos.archive;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// Nullable low-cardinality text column (lot, gates, shift, cashier): bit-packed codes into a sorted dictionary.
+// Code 0 is null, code n is dictionary[n - 1].
+final class DictionaryColumn {
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private int[] values = new int[1024];
+
+    void set(int row, String value) {
+        if (row == values.length) {
+            values = Arrays.copyOf(values, row * 2);
+        }
+        values[row] = value == null ? -1 : codes.computeIfAbsent(value, key -> codes.size());
+    }
+
+    void writeTo(DataOutputStream out, int[] order, int rows) throws IOException {
+        String[] dictionary = new String[codes.size()];
+        codes.forEach((value, code) -> dictionary[code] = value);
+        Arrays.sort(dictionary);
+        int[] remap = new int[dictionary.length];
+        for (int sortedCode = 0; sortedCode < dictionary.length; sortedCode++) {
+            remap[codes.get(dictionary[sortedCode])] = sortedCode + 1;
+        }
+        int[] column = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            int value = values[order[i]];
+            column[i] = value < 0 ? 0 : remap[value];
+        }
+        int bits = ColumnCodec.bitsNeeded(dictionary.length);
+
+        out.writeInt(dictionary.length);
+        for (String value : dictionary) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeShort(bytes.length);
+            out.write(bytes);
+        }
+        out.writeByte(bits);
+        byte[] packed = ColumnCodec.packBits(column, rows, bits);
+        out.writeInt(packed.length);
+        out.write(packed);
+    }
+
+    static Decoded read(ByteBuffer in) {
+        String[] dictionary = new String[in.getInt()];
+        for (int i = 0; i < dictionary.length; i++) {
+            byte[] bytes = new byte[in.getShort() & 0xFFFF];
+            in.get(bytes);
+            dictionary[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        int bits = in.get();
+        int length = in.getInt();
+        int offset = in.position();
+        in.position(offset + length);
+        return new Decoded(dictionary, bits, offset);
+    }
+
+    // Archives written before these columns existed read every row as null.
+    static Decoded absent() {
+        return new Decoded(new String[0], 0, 0);
+    }
+
+    record Decoded(String[] dictionary, int bits, int offset) {
+
+        // -1 when the value never occurs in this file.
+        int codeOf(String value) {
+            int index = Arrays.binarySearch(dictionary, value);
+            return index < 0 ? -1 : index + 1;
+        }
+
+        int code(ByteBuffer buffer, int row) {
+            return ColumnCodec.unpackBits(buffer, offset, row, bits);
+        }
+
+        String get(ByteBuffer buffer, int row) {
+            int code = code(buffer, row);
+            return code == 0 ? null : dictionary[code - 1];
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.parkee_test.parking_pos.archive;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+public class MonthlyArchiveReader {
+
+    private final MappedByteBuffer buffer;
+    private final YearMonth month;
+    private final int rows;
+    private final long baseCheckIn;
+    private final int priceUnit;
+    private final int plateBits;
+    private final int priceBits;
+    private final String[] dictionary;
+    private final int idOffset;
+    private final int checkInOffset;
+    private final int durationOffset;
+    private final int plateOffset;
+    private final int priceOffset;
+    private final DictionaryColumn.Decoded lots;
+    private final DictionaryColumn.Decoded entryGates;
+    private final DictionaryColumn.Decoded exitGates;
+    private final DictionaryColumn.Decoded shifts;
+    private final DictionaryColumn.Decoded cashiers;
+
+    private MonthlyArchiveReader(MappedByteBuffer buffer) {
+        this.buffer = buffer;
+        ByteBuffer header = buffer.duplicate();
+        if (header.getInt() != MonthlyArchiveWriter.MAGIC) {
+            throw new IllegalArgumentException("Not a ticket archive file");
+        }
+        short version = header.getShort();
+        if (version < 1 || version > MonthlyArchiveWriter.VERSION) {
+            throw new IllegalArgumentException("Unsupported ticket archive version " + version);
+        }
+        int yearMonth = header.getInt();
+        this.month = YearMonth.of(yearMonth / 100, yearMonth % 100);
+        this.rows = header.getInt();
+        this.baseCheckIn = header.getLong();
+        this.priceUnit = header.getInt();
+        this.plateBits = header.get();
+        this.priceBits = header.get();
+
+        this.dictionary = new String[header.getInt()];
+        for (int i = 0; i < dictionary.length; i++) {
+            byte[] bytes = new byte[header.getShort() & 0xFFFF];
+            header.get(bytes);
+            dictionary[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        this.idOffset = skipSection(header);
+        this.checkInOffset = skipSection(header);
+        this.durationOffset = skipSection(header);
+        this.plateOffset = skipSection(header);
+        this.priceOffset = skipSection(header);
+        boolean hasDetails = version >= 2;
+        this.lots = hasDetails ? DictionaryColumn.read(header) : DictionaryColumn.absent();
+        this.entryGates = hasDetails ? DictionaryColumn.read(header) : DictionaryColumn.absent();
+        this.exitGates = hasDetails ? DictionaryColumn.read(header) : DictionaryColumn.absent();
+        this.shifts = hasDetails ? DictionaryColumn.read(header) : DictionaryColumn.absent();
+        this.cashiers = hasDetails ? DictionaryColumn.read(header) : DictionaryColumn.absent();
+    }
+
+    public static MonthlyArchiveReader open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new MonthlyArchiveReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public YearMonth getMonth() {
+        return month;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public List<ArchivedTicket> findByPlate(String plateNumber) {
+        int code = Arrays.binarySearch(dictionary, plateNumber);
+        if (code < 0) {
+            return new ArrayList<>();
+        }
+        return scan(row -> ColumnCodec.unpackBits(buffer, plateOffset, row, plateBits) == code);
+    }
+
+    public List<ArchivedTicket> findByShift(String shiftId) {
+        int code = shifts.codeOf(shiftId);
+        if (code < 0) {
+            return new ArrayList<>();
+        }
+        return scan(row -> shifts.code(buffer, row) == code);
+    }
+
+    // Ids and check-ins are deltas, so every row is decoded; only matching rows are materialized.
+    private List<ArchivedTicket> scan(IntPredicate matches) {
+        List<ArchivedTicket> found = new ArrayList<>();
+        ByteBuffer ids = column(idOffset);
+        ByteBuffer checkIns = column(checkInOffset);
+        ByteBuffer durations = column(durationOffset);
+        long id = 0;
+        long checkIn = baseCheckIn;
+        for (int row = 0; row < rows; row++) {
+            id += ColumnCodec.unZigZag(ColumnCodec.readVarLong(ids));
+            checkIn += ColumnCodec.readVarLong(checkIns);
+            long duration = ColumnCodec.unZigZag(ColumnCodec.readVarLong(durations));
+            if (matches.test(row)) {
+                found.add(new ArchivedTicket(id, lots.get(buffer, row),
+                        dictionary[ColumnCodec.unpackBits(buffer, plateOffset, row, plateBits)],
+                        LocalDateTime.ofEpochSecond(checkIn, 0, ZoneOffset.UTC),
+                        LocalDateTime.ofEpochSecond(checkIn + duration, 0, ZoneOffset.UTC),
+                        price(row), entryGates.get(buffer, row), exitGates.get(buffer, row),
+                        shifts.get(buffer, row), cashiers.get(buffer, row)));
+            }
+        }
+        return found;
+    }
+
+    public RevenueSummary revenue() {
+        long revenue = 0;
+        for (int row = 0; row < rows; row++) {
+            revenue += price(row);
+        }
+        return new RevenueSummary(rows, revenue);
+    }
+
+    public RevenueSummary revenue(LocalDateTime from, LocalDateTime to) {
+        long fromSecond = from.toEpochSecond(ZoneOffset.UTC);
+        long toSecond = to.toEpochSecond(ZoneOffset.UTC);
+        ByteBuffer checkIns = column(checkInOffset);
+        ByteBuffer durations = column(durationOffset);
+        long checkIn = baseCheckIn;
+        long tickets = 0;
+        long revenue = 0;
+        for (int row = 0; row < rows; row++) {
+            checkIn += ColumnCodec.readVarLong(checkIns);
+            long checkOut = checkIn + ColumnCodec.unZigZag(ColumnCodec.readVarLong(durations));
+            if (checkOut >= fromSecond && checkOut < toSecond) {
+                tickets++;
+                revenue += price(row);
+            }
+        }
+        return new RevenueSummary(tickets, revenue);
+    }
+
+    private int price(int row) {
+        return ColumnCodec.unpackBits(buffer, priceOffset, row, priceBits) * priceUnit;
+    }
+
+    private ByteBuffer column(int offset) {
+        return buffer.duplicate().position(offset);
+    }
+
+    private static int skipSection(ByteBuffer header) {
+        int length = header.getInt();
+        int offset = header.position();
+        header.position(offset + length);
+        return offset;
+    }
+}
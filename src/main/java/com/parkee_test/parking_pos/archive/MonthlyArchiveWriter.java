@@ -0,0 +1,165 @@
+package com.parkee_test.parking_pos.archive;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+public class MonthlyArchiveWriter {
+
+    static final int MAGIC = 0x504B5441;
+    // Version 2 added lot, gates, shift and cashier, so delete-after-export keeps every field reports use.
+    static final short VERSION = 2;
+
+    private final YearMonth month;
+    private final Map<String, Integer> plateCodes = new HashMap<>();
+
+    private long[] ids = new long[1024];
+    private long[] checkIns = new long[1024];
+    private long[] durations = new long[1024];
+    private int[] plates = new int[1024];
+    private int[] prices = new int[1024];
+    private final DictionaryColumn lots = new DictionaryColumn();
+    private final DictionaryColumn entryGates = new DictionaryColumn();
+    private final DictionaryColumn exitGates = new DictionaryColumn();
+    private final DictionaryColumn shifts = new DictionaryColumn();
+    private final DictionaryColumn cashiers = new DictionaryColumn();
+    private int rows;
+
+    public MonthlyArchiveWriter(YearMonth month) {
+        this.month = month;
+    }
+
+    public void add(ArchivedTicket ticket) {
+        if (rows == ids.length) {
+            int capacity = rows * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            checkIns = Arrays.copyOf(checkIns, capacity);
+            durations = Arrays.copyOf(durations, capacity);
+            plates = Arrays.copyOf(plates, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+        }
+        long checkIn = ticket.getCheckInTime().toEpochSecond(ZoneOffset.UTC);
+        ids[rows] = ticket.getId();
+        checkIns[rows] = checkIn;
+        durations[rows] = ticket.getCheckOutTime().toEpochSecond(ZoneOffset.UTC) - checkIn;
+        plates[rows] = plateCodes.computeIfAbsent(ticket.getPlateNumber(), plate -> plateCodes.size());
+        prices[rows] = ticket.getTotalPrice();
+        lots.set(rows, ticket.getLotId());
+        entryGates.set(rows, ticket.getEntryGate());
+        exitGates.set(rows, ticket.getExitGate());
+        shifts.set(rows, ticket.getShiftId());
+        cashiers.set(rows, ticket.getCashierId());
+        rows++;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public void writeTo(Path file) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            writeTo(out);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public void writeTo(OutputStream target) throws IOException {
+        int[] order = IntStream.range(0, rows).boxed()
+                .sorted(Comparator.<Integer>comparingLong(row -> checkIns[row]).thenComparingLong(row -> ids[row]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        String[] dictionary = new String[plateCodes.size()];
+        plateCodes.forEach((plate, code) -> dictionary[code] = plate);
+        Arrays.sort(dictionary);
+        int[] remap = new int[dictionary.length];
+        for (int sortedCode = 0; sortedCode < dictionary.length; sortedCode++) {
+            remap[plateCodes.get(dictionary[sortedCode])] = sortedCode;
+        }
+
+        long baseCheckIn = rows == 0 ? 0 : checkIns[order[0]];
+        int priceUnit = 0;
+        for (int row = 0; row < rows; row++) {
+            priceUnit = gcd(priceUnit, prices[row]);
+        }
+        priceUnit = Math.max(1, priceUnit);
+
+        ByteArrayOutputStream idColumn = new ByteArrayOutputStream();
+        ByteArrayOutputStream checkInColumn = new ByteArrayOutputStream();
+        ByteArrayOutputStream durationColumn = new ByteArrayOutputStream();
+        int[] plateColumn = new int[rows];
+        int[] priceColumn = new int[rows];
+        long previousId = 0;
+        long previousCheckIn = baseCheckIn;
+        int maxPriceUnits = 0;
+        for (int i = 0; i < rows; i++) {
+            int row = order[i];
+            ColumnCodec.writeVarLong(idColumn, ColumnCodec.zigZag(ids[row] - previousId));
+            ColumnCodec.writeVarLong(checkInColumn, checkIns[row] - previousCheckIn);
+            ColumnCodec.writeVarLong(durationColumn, ColumnCodec.zigZag(durations[row]));
+            plateColumn[i] = remap[plates[row]];
+            priceColumn[i] = prices[row] / priceUnit;
+            maxPriceUnits = Math.max(maxPriceUnits, priceColumn[i]);
+            previousId = ids[row];
+            previousCheckIn = checkIns[row];
+        }
+        int plateBits = ColumnCodec.bitsNeeded(Math.max(0, dictionary.length - 1));
+        int priceBits = ColumnCodec.bitsNeeded(maxPriceUnits);
+
+        DataOutputStream out = new DataOutputStream(target);
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeInt(month.getYear() * 100 + month.getMonthValue());
+        out.writeInt(rows);
+        out.writeLong(baseCheckIn);
+        out.writeInt(priceUnit);
+        out.writeByte(plateBits);
+        out.writeByte(priceBits);
+
+        out.writeInt(dictionary.length);
+        for (String plate : dictionary) {
+            byte[] bytes = plate.getBytes(StandardCharsets.UTF_8);
+            out.writeShort(bytes.length);
+            out.write(bytes);
+        }
+
+        writeSection(out, idColumn.toByteArray());
+        writeSection(out, checkInColumn.toByteArray());
+        writeSection(out, durationColumn.toByteArray());
+        writeSection(out, ColumnCodec.packBits(plateColumn, rows, plateBits));
+        writeSection(out, ColumnCodec.packBits(priceColumn, rows, priceBits));
+        lots.writeTo(out, order, rows);
+        entryGates.writeTo(out, order, rows);
+        exitGates.writeTo(out, order, rows);
+        shifts.writeTo(out, order, rows);
+        cashiers.writeTo(out, order, rows);
+        out.flush();
+    }
+
+    private static void writeSection(DataOutputStream out, byte[] section) throws IOException {
+        out.writeInt(section.length);
+        out.write(section);
+    }
+
+    private static int gcd(int a, int b) {
+        while (b != 0) {
+            int next = a % b;
+            a = b;
+            b = next;
+        }
+        return Math.abs(a);
+    }
+}
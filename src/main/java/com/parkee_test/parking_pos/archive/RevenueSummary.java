@@ -0,0 +1,16 @@
+package com.parkee_test.parking_pos.archive;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RevenueSummary {
+
+    private final long tickets;
+    private final long revenue;
+
+    public RevenueSummary plus(RevenueSummary other) {
+        return new RevenueSummary(tickets + other.tickets, revenue + other.revenue);
+    }
+}
@@ -0,0 +1,110 @@
+package com.parkee_test.parking_pos.archive;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class TicketArchiveRepository {
+
+    private final Path directory;
+    private final Map<YearMonth, MonthlyArchiveReader> readers = new ConcurrentHashMap<>();
+
+    public TicketArchiveRepository(@Value("${parking.archive.directory:./archive}") Path directory) {
+        this.directory = directory;
+    }
+
+    public Path fileFor(YearMonth month) {
+        return directory.resolve("tickets-" + month + ".pkta");
+    }
+
+    public boolean isArchived(YearMonth month) {
+        return Files.exists(fileFor(month));
+    }
+
+    // Written beside the live file and only moved over it by publish, so a failed export never touches the old archive.
+    public Path stage(YearMonth month, MonthlyArchiveWriter writer) throws IOException {
+        Files.createDirectories(directory);
+        Path staged = fileFor(month).resolveSibling(fileFor(month).getFileName() + ".staged");
+        writer.writeTo(staged);
+        return staged;
+    }
+
+    public void publish(YearMonth month, Path staged) throws IOException {
+        Files.move(staged, fileFor(month), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        readers.remove(month);
+    }
+
+    public void discard(Path staged) {
+        try {
+            Files.deleteIfExists(staged);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public void delete(YearMonth month) {
+        readers.remove(month);
+        try {
+            Files.deleteIfExists(fileFor(month));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public MonthlyArchiveReader reader(YearMonth month) {
+        return readers.computeIfAbsent(month, key -> {
+            try {
+                return MonthlyArchiveReader.open(fileFor(key));
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+
+    public List<YearMonth> archivedMonths() throws IOException {
+        List<YearMonth> months = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return months;
+        }
+        try (var files = Files.newDirectoryStream(directory, "tickets-*.pkta")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                months.add(YearMonth.parse(name.substring("tickets-".length(), name.length() - ".pkta".length())));
+            }
+        }
+        months.sort(null);
+        return months;
+    }
+
+    public List<ArchivedTicket> findByPlate(String plateNumber) throws IOException {
+        List<ArchivedTicket> tickets = new ArrayList<>();
+        for (YearMonth month : archivedMonths()) {
+            tickets.addAll(reader(month).findByPlate(plateNumber));
+        }
+        return tickets;
+    }
+
+    public List<ArchivedTicket> findByShift(String shiftId) throws IOException {
+        List<ArchivedTicket> tickets = new ArrayList<>();
+        for (YearMonth month : archivedMonths()) {
+            tickets.addAll(reader(month).findByShift(shiftId));
+        }
+        return tickets;
+    }
+
+    public RevenueSummary revenue(YearMonth month, LocalDateTime from, LocalDateTime to) {
+        return reader(month).revenue(from, to);
+    }
+}
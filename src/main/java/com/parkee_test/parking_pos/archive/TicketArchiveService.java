@@ -0,0 +1,131 @@
+package com.parkee_test.parking_pos.archive;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.parkee_test.parking_pos.entity.TicketStatus;
+import com.parkee_test.parking_pos.repository.TicketRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class TicketArchiveService {
+
+    private static final int DELETE_CHUNK = 1_000;
+
+    private static final String SELECT_MONTH = """
+            SELECT id, lot_id, plate_number, check_in_time, check_out_time, total_price, entry_gate, exit_gate, shift_id,
+                cashier_id FROM tickets
+            WHERE status = 'COMPLETED' AND check_out_time >= ? AND check_out_time < ?
+            """;
+
+    private final TicketRepository ticketRepository;
+    private final TicketArchiveRepository ticketArchiveRepository;
+    private final JdbcTemplate streamingTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final boolean deleteAfterExport;
+
+    public TicketArchiveService(TicketRepository ticketRepository, TicketArchiveRepository ticketArchiveRepository,
+            JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, Clock clock,
+            @Value("${parking.archive.delete-after-export:false}") boolean deleteAfterExport) {
+        this.ticketRepository = ticketRepository;
+        this.ticketArchiveRepository = ticketArchiveRepository;
+        this.streamingTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.streamingTemplate.setFetchSize(5_000);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.deleteAfterExport = deleteAfterExport;
+    }
+
+    public ArchiveExportResult exportMonth(YearMonth month, boolean overwrite) {
+        if (month == null) {
+            return ArchiveExportResult.error("Month is required");
+        }
+        if (!month.isBefore(YearMonth.now(clock))) {
+            return ArchiveExportResult.error("Only past months can be archived");
+        }
+        if (!overwrite && ticketArchiveRepository.isArchived(month)) {
+            return ArchiveExportResult.error("Month is already archived");
+        }
+
+        LocalDateTime from = month.atDay(1).atStartOfDay();
+        LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+
+        return transactionTemplate.execute(status -> {
+            MonthlyArchiveWriter writer = new MonthlyArchiveWriter(month);
+            List<Long> archivedIds = new ArrayList<>();
+            streamingTemplate.query(SELECT_MONTH, (RowCallbackHandler) rs -> {
+                archivedIds.add(rs.getLong("id"));
+                writer.add(new ArchivedTicket(
+                        rs.getLong("id"),
+                        rs.getString("lot_id"),
+                        rs.getString("plate_number"),
+                        rs.getObject("check_in_time", LocalDateTime.class),
+                        rs.getObject("check_out_time", LocalDateTime.class),
+                        rs.getInt("total_price"),
+                        rs.getString("entry_gate"),
+                        rs.getString("exit_gate"),
+                        rs.getString("shift_id"),
+                        rs.getString("cashier_id")));
+            }, from, to);
+
+            Path staged;
+            try {
+                staged = ticketArchiveRepository.stage(month, writer);
+            } catch (IOException ex) {
+                status.setRollbackOnly();
+                return ArchiveExportResult.error("Failed to write archive: " + ex.getMessage());
+            }
+
+            try {
+                RevenueSummary archived = MonthlyArchiveReader.open(staged).revenue();
+                long liveCount = ticketRepository.countByStatusAndCheckOutTimeGreaterThanEqualAndCheckOutTimeLessThan(
+                        TicketStatus.COMPLETED, from, to);
+                long liveRevenue = ticketRepository.sumCompletedRevenue(from, to);
+                if (archived.getTickets() != liveCount || archived.getRevenue() != liveRevenue) {
+                    status.setRollbackOnly();
+                    return ArchiveExportResult.error("Archive verification failed for " + month);
+                }
+                // After delete-after-export the rows are gone, so a re-export would replace the archive with a smaller one.
+                if (ticketArchiveRepository.isArchived(month)
+                        && archived.getTickets() < ticketArchiveRepository.reader(month).getRows()) {
+                    status.setRollbackOnly();
+                    return ArchiveExportResult.error("Re-export would drop tickets already archived for " + month);
+                }
+                ticketArchiveRepository.publish(month, staged);
+                int deleted = deleteAfterExport ? deleteArchived(archivedIds) : 0;
+                log.info("Archived {} tickets for {} ({} removed from database)", archived.getTickets(), month, deleted);
+                return ArchiveExportResult.ok(month, archived, deleted);
+            } catch (IOException ex) {
+                status.setRollbackOnly();
+                return ArchiveExportResult.error("Failed to write archive: " + ex.getMessage());
+            } finally {
+                ticketArchiveRepository.discard(staged);
+            }
+        });
+    }
+
+    // Only the rows written to the file: a ticket of this month that commits after the scan stays in the database.
+    private int deleteArchived(List<Long> ids) {
+        int deleted = 0;
+        for (int start = 0; start < ids.size(); start += DELETE_CHUNK) {
+            int end = Math.min(ids.size(), start + DELETE_CHUNK);
+            deleted += ticketRepository.deleteCompletedByIdIn(ids.subList(start, end));
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,117 @@
+package com.parkee_test.parking_pos.cache;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import com.parkee_test.parking_pos.entity.Ticket;
+import com.parkee_test.parking_pos.entity.TicketStatus;
+
+public class ActiveTicketCache implements InvalidationListener {
+
+    private final Map<String, LotShard> lots = new ConcurrentHashMap<>();
+    private final long maxAgeNanos;
+    private final int maxEntriesPerLot;
+    private final LongSupplier nanoTime;
+
+    public ActiveTicketCache(Duration maxAge, int maxEntriesPerLot) {
+        this(maxAge, maxEntriesPerLot, System::nanoTime);
+    }
+
+    ActiveTicketCache(Duration maxAge, int maxEntriesPerLot, LongSupplier nanoTime) {
+        this.maxAgeNanos = maxAge.toNanos();
+        this.maxEntriesPerLot = maxEntriesPerLot;
+        this.nanoTime = nanoTime;
+    }
+
+    public Optional<CachedTicket> getActive(String lotId, String plateNumber) {
+        LotShard shard = shard(lotId);
+        CachedTicket cached = shard.entries.get(plateNumber);
+        if (cached == null || cached.getStatus() != TicketStatus.ACTIVE) {
+            return Optional.empty();
+        }
+        if (nanoTime.getAsLong() - cached.getCachedAtNanos() > maxAgeNanos) {
+            shard.entries.remove(plateNumber, cached);
+            return Optional.empty();
+        }
+        return Optional.of(cached);
+    }
+
+    // Read before querying the database and pass to putLoaded, so a row read before a clear
+    // (missed notifications, size cap) cannot be cached after it.
+    public long generation(String lotId) {
+        return shard(lotId).generation.get();
+    }
+
+    // Returns what the caller may serve: the loaded row, or a newer ACTIVE entry; empty when a newer
+    // invalidation (e.g. a completion) says the loaded row is already stale.
+    public Optional<CachedTicket> putLoaded(String lotId, String plateNumber, Ticket ticket, long generation) {
+        if (ticket.getStatus() != TicketStatus.ACTIVE) {
+            return Optional.empty();
+        }
+        LotShard shard = shard(lotId);
+        CachedTicket candidate = toCached(ticket.getId(), ticket.getVersion(), ticket.getLotId(), ticket.getPlateNumber(),
+                ticket.getCheckInTime(), ticket.getStatus());
+        CachedTicket[] winner = new CachedTicket[1];
+        shard.entries.compute(plateNumber, (plate, current) -> {
+            if (!candidate.isNewerThan(current)) {
+                winner[0] = current;
+                return current;
+            }
+            winner[0] = candidate;
+            return shard.generation.get() == generation ? candidate : current;
+        });
+        trim(shard);
+        return Optional.ofNullable(winner[0]).filter(cached -> cached.getStatus() == TicketStatus.ACTIVE);
+    }
+
+    @Override
+    public void onInvalidation(TicketInvalidation invalidation) {
+        LotShard shard = shard(invalidation.getLotId());
+        // Completed tickets stay as tombstones so an older ACTIVE row still in flight cannot be cached again.
+        CachedTicket candidate = toCached(invalidation.getTicketId(), invalidation.getVersion(), invalidation.getLotId(),
+                invalidation.getPlateNumber(), invalidation.getCheckInTime(), invalidation.getStatus());
+        shard.entries.compute(invalidation.getPlateNumber(), (plate, current) ->
+                candidate.isNewerThan(current) ? candidate : current);
+        trim(shard);
+    }
+
+    @Override
+    public void onMissedInvalidations() {
+        lots.values().forEach(LotShard::clear);
+    }
+
+    public int size(String lotId) {
+        return shard(lotId).entries.size();
+    }
+
+    private CachedTicket toCached(Long ticketId, long version, String lotId, String plateNumber,
+            LocalDateTime checkInTime, TicketStatus status) {
+        return new CachedTicket(ticketId, version, lotId, plateNumber, checkInTime, status, nanoTime.getAsLong());
+    }
+
+    private void trim(LotShard shard) {
+        if (shard.entries.size() > maxEntriesPerLot) {
+            shard.clear();
+        }
+    }
+
+    private LotShard shard(String lotId) {
+        return lots.computeIfAbsent(lotId, key -> new LotShard());
+    }
+
+    private static final class LotShard {
+
+        private final Map<String, CachedTicket> entries = new ConcurrentHashMap<>();
+        private final AtomicLong generation = new AtomicLong();
+
+        private void clear() {
+            generation.incrementAndGet();
+            entries.clear();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.parkee_test.parking_pos.cache;
+
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.parkee_test.parking_pos.service.TicketChangedEvent;
+
+public class ActiveTicketInvalidationPublisher {
+
+    private final InvalidationBus invalidationBus;
+    private final Runnable flush;
+
+    public ActiveTicketInvalidationPublisher(InvalidationBus invalidationBus) {
+        this(invalidationBus, () -> { });
+    }
+
+    // flush pushes pending entity changes to the database, so the ticket carries the @Version it commits with.
+    public ActiveTicketInvalidationPublisher(InvalidationBus invalidationBus, Runnable flush) {
+        this.invalidationBus = invalidationBus;
+        this.flush = flush;
+    }
+
+    // Runs on the writing transaction's connection; the bus holds the message back until that commit.
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void beforeCommit(TicketChangedEvent event) {
+        if (invalidationBus.deliversOnCommit()) {
+            // Hibernate only bumps the version at flush, which would otherwise happen after this listener.
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                flush.run();
+            }
+            invalidationBus.publish(TicketInvalidation.of(event.getTicket()));
+        }
+    }
+
+    // After commit only: other nodes must not reload the row before the change is visible to them.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketChanged(TicketChangedEvent event) {
+        if (!invalidationBus.deliversOnCommit()) {
+            invalidationBus.publish(TicketInvalidation.of(event.getTicket()));
+        }
+    }
+}
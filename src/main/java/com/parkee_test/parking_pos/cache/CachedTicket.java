@@ -0,0 +1,34 @@
+package com.parkee_test.parking_pos.cache;
+
+import java.time.LocalDateTime;
+
+import com.parkee_test.parking_pos.entity.TicketStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CachedTicket {
+
+    private final Long ticketId;
+    private final long version;
+    private final String lotId;
+    private final String plateNumber;
+    private final LocalDateTime checkInTime;
+    private final TicketStatus status;
+    private final long cachedAtNanos;
+
+    boolean isNewerThan(CachedTicket other) {
+        if (other == null) {
+            return true;
+        }
+        int byTicket = Long.compare(ticketId, other.ticketId);
+        if (byTicket != 0) {
+            return byTicket > 0;
+        }
+        // COMPLETED is terminal, so at an equal version it wins over ACTIVE, whichever copy arrived first.
+        return version > other.version
+                || (version == other.version && status != TicketStatus.ACTIVE && other.status == TicketStatus.ACTIVE);
+    }
+}
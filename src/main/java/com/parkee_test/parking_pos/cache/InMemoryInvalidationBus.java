@@ -0,0 +1,21 @@
+package com.parkee_test.parking_pos.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class InMemoryInvalidationBus implements InvalidationBus {
+
+    private final List<InvalidationListener> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(TicketInvalidation invalidation) {
+        for (InvalidationListener listener : listeners) {
+            listener.onInvalidation(invalidation);
+        }
+    }
+
+    @Override
+    public void subscribe(InvalidationListener listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,13 @@
+package com.parkee_test.parking_pos.cache;
+
+public interface InvalidationBus {
+
+    void publish(TicketInvalidation invalidation);
+
+    void subscribe(InvalidationListener listener);
+
+    // True when publishing inside the writing transaction is safe because delivery waits for its commit.
+    default boolean deliversOnCommit() {
+        return false;
+    }
+}
@@ -0,0 +1,8 @@
+package com.parkee_test.parking_pos.cache;
+
+public interface InvalidationListener {
+
+    void onInvalidation(TicketInvalidation invalidation);
+
+    void onMissedInvalidations();
+}
@@ -0,0 +1,130 @@
+package com.parkee_test.parking_pos.cache;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.parkee_test.parking_pos.sql.SqlStatementRecorder;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class PostgresInvalidationBus implements InvalidationBus, AutoCloseable {
+
+    static final String CHANNEL = "ticket_invalidation";
+
+    // Runs on the request thread but is not part of the request's SQL budget.
+    private static final String NOTIFY = SqlStatementRecorder.UNTRACKED + "SELECT pg_notify(?, ?)";
+
+    private static final int POLL_TIMEOUT_MILLIS = 1000;
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final List<InvalidationListener> listeners = new CopyOnWriteArrayList<>();
+    private final Thread listenerThread;
+    private volatile boolean running = true;
+
+    public PostgresInvalidationBus(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, String url, String username,
+            String password) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.listenerThread = Thread.ofPlatform().daemon().name("ticket-invalidation-listener").unstarted(this::listen);
+        this.listenerThread.start();
+    }
+
+    @Override
+    public void publish(TicketInvalidation invalidation) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(invalidation);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Cannot serialize ticket invalidation", ex);
+        }
+        // Called before commit on the ticket transaction's own connection. Postgres delivers NOTIFY only if that
+        // transaction commits, and drops it on rollback, so no second connection or transaction is needed.
+        jdbcTemplate.query(NOTIFY, rs -> null, CHANNEL, payload);
+    }
+
+    @Override
+    public boolean deliversOnCommit() {
+        return true;
+    }
+
+    @Override
+    public void subscribe(InvalidationListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        listenerThread.interrupt();
+    }
+
+    private void listen() {
+        Duration backoff = Duration.ofMillis(500);
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                // Anything published while we were not listening is lost; drop what may be stale.
+                listeners.forEach(InvalidationListener::onMissedInvalidations);
+                backoff = Duration.ofMillis(500);
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException ex) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Invalidation listener disconnected, retrying in {}", backoff, ex);
+                listeners.forEach(InvalidationListener::onMissedInvalidations);
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoff = backoff.multipliedBy(2).compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff.multipliedBy(2);
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        TicketInvalidation invalidation;
+        try {
+            invalidation = objectMapper.readValue(payload, TicketInvalidation.class);
+        } catch (JsonProcessingException ex) {
+            log.warn("Ignoring malformed ticket invalidation: {}", payload, ex);
+            return;
+        }
+        for (InvalidationListener listener : listeners) {
+            listener.onInvalidation(invalidation);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.parkee_test.parking_pos.cache;
+
+import java.time.LocalDateTime;
+
+import com.parkee_test.parking_pos.entity.Ticket;
+import com.parkee_test.parking_pos.entity.TicketStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketInvalidation {
+
+    private Long ticketId;
+    private long version;
+    private String lotId;
+    private String plateNumber;
+    private LocalDateTime checkInTime;
+    private TicketStatus status;
+
+    public static TicketInvalidation of(Ticket ticket) {
+        return new TicketInvalidation(ticket.getId(), ticket.getVersion(), ticket.getLotId(), ticket.getPlateNumber(),
+                ticket.getCheckInTime(), ticket.getStatus());
+    }
+}
@@ -0,0 +1,39 @@
+package com.parkee_test.parking_pos.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.parkee_test.parking_pos.admission.AdaptiveConcurrencyLimit;
+import com.parkee_test.parking_pos.admission.AdmissionControlFilter;
+import com.parkee_test.parking_pos.admission.AdmissionLimiter;
+import com.parkee_test.parking_pos.admission.AdmissionProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(AdmissionProperties.class)
+@ConditionalOnProperty(prefix = "parking.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionControlConfig {
+
+    @Bean
+    public AdmissionLimiter admissionLimiter(AdmissionProperties properties) {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(
+                properties.getInitialLimit(), properties.getMinLimit(), properties.getMaxLimit());
+        return new AdmissionLimiter(limit, properties.getMaxQueueWait(), properties.getMaxQueued());
+    }
+
+    @Bean
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(AdmissionLimiter admissionLimiter,
+            AdmissionProperties properties, MeterRegistry meterRegistry) {
+        FilterRegistrationBean<AdmissionControlFilter> registration = new FilterRegistrationBean<>(
+                new AdmissionControlFilter(admissionLimiter, properties, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.parkee_test.parking_pos.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.parkee_test.parking_pos.cache.ActiveTicketCache;
+import com.parkee_test.parking_pos.cache.ActiveTicketInvalidationPublisher;
+import com.parkee_test.parking_pos.cache.InMemoryInvalidationBus;
+import com.parkee_test.parking_pos.cache.InvalidationBus;
+import com.parkee_test.parking_pos.cache.PostgresInvalidationBus;
+
+import jakarta.persistence.EntityManager;
+
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public ActiveTicketCache activeTicketCache(InvalidationBus invalidationBus,
+            @Value("${parking.cache.max-age:30s}") Duration maxAge,
+            @Value("${parking.cache.max-entries-per-lot:50000}") int maxEntriesPerLot) {
+        ActiveTicketCache cache = new ActiveTicketCache(maxAge, maxEntriesPerLot);
+        invalidationBus.subscribe(cache);
+        return cache;
+    }
+
+    @Bean
+    public ActiveTicketInvalidationPublisher activeTicketInvalidationPublisher(InvalidationBus invalidationBus,
+            EntityManager entityManager) {
+        return new ActiveTicketInvalidationPublisher(invalidationBus, entityManager::flush);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "parking.cache", name = "bus", havingValue = "in-memory", matchIfMissing = true)
+    public InvalidationBus inMemoryInvalidationBus() {
+        return new InMemoryInvalidationBus();
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "parking.cache", name = "bus", havingValue = "postgres")
+    public InvalidationBus postgresInvalidationBus(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password) {
+        return new PostgresInvalidationBus(jdbcTemplate, objectMapper, url, username, password);
+    }
+}
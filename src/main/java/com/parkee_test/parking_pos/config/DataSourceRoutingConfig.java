@@ -0,0 +1,72 @@
+package com.parkee_test.parking_pos.config;
+
+import java.time.Clock;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.parkee_test.parking_pos.datasource.ReadWriteRoutingDataSource;
+import com.parkee_test.parking_pos.datasource.ReplicaStalenessGuard;
+import com.zaxxer.hikari.HikariDataSource;
+
+@Configuration
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public ReplicaStalenessGuard replicaStalenessGuard(Clock clock, ReplicaDataSourceProperties replicaProperties) {
+        return new ReplicaStalenessGuard(clock, replicaProperties.getMaxLag());
+    }
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "parking.datasource.replica", name = "enabled", havingValue = "true")
+    static class ReadReplicaConfig {
+
+        @Bean(defaultCandidate = false)
+        @ConfigurationProperties(prefix = "spring.datasource.hikari")
+        HikariDataSource primaryPool(DataSourceProperties dataSourceProperties) {
+            return dataSourceProperties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .build();
+        }
+
+        @Bean(defaultCandidate = false)
+        HikariDataSource replicaPool(ReplicaDataSourceProperties replicaProperties) {
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(replicaProperties.getUrl())
+                    .username(replicaProperties.getUsername())
+                    .password(replicaProperties.getPassword())
+                    .build();
+            replica.setPoolName("replica");
+            replica.setReadOnly(true);
+            // Fail fast so a dead replica costs a read half a second, not Hikari's default 30s, before falling back.
+            replica.setConnectionTimeout(replicaProperties.getConnectTimeout().toMillis());
+            if (replicaProperties.isFallbackToPrimary()) {
+                replica.setInitializationFailTimeout(-1);
+            }
+            return replica;
+        }
+
+        @Bean
+        @Primary
+        DataSource dataSource(@Qualifier("primaryPool") DataSource primaryPool,
+                @Qualifier("replicaPool") DataSource replicaPool,
+                ReplicaDataSourceProperties replicaProperties) {
+            ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(
+                    primaryPool, replicaPool, replicaProperties.isFallbackToPrimary(), replicaProperties.getRetryAfter());
+            return new LazyConnectionDataSourceProxy(routing);
+        }
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.parkee_test.parking_pos.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.parkee_test.parking_pos.importer.JdbcTicketBatchWriter;
+import com.parkee_test.parking_pos.importer.TicketCsvImporter;
+import com.parkee_test.parking_pos.importer.TicketImportValidator;
+import com.parkee_test.parking_pos.lot.LotRouting;
+import com.parkee_test.parking_pos.service.ParkingFeeCalculator;
+
+@Configuration
+@ConditionalOnProperty(prefix = "parking.import", name = "file")
+public class ImportConfig {
+
+    @Bean
+    public TicketCsvImporter ticketCsvImporter(JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager, ParkingFeeCalculator parkingFeeCalculator,
+            LotRouting lotRouting,
+            @Value("${parking.import.batch-size:5000}") int batchSize,
+            @Value("${parking.import.queue-capacity:4}") int queueCapacity) {
+        JdbcTicketBatchWriter writer = new JdbcTicketBatchWriter(jdbcTemplate,
+                new TransactionTemplate(transactionManager));
+        return new TicketCsvImporter(writer,
+                existingActive -> new TicketImportValidator(parkingFeeCalculator, lotRouting, existingActive),
+                batchSize, queueCapacity);
+    }
+}
@@ -0,0 +1,24 @@
+package com.parkee_test.parking_pos.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.parkee_test.parking_pos.lot.ActiveVehicleRegistry;
+import com.parkee_test.parking_pos.lot.LotProperties;
+import com.parkee_test.parking_pos.lot.LotRouting;
+
+@Configuration
+@EnableConfigurationProperties(LotProperties.class)
+public class LotConfig {
+
+    @Bean
+    public LotRouting lotRouting(LotProperties lotProperties) {
+        return new LotRouting(lotProperties.getDefaultLot(), lotProperties.getNodeId(), lotProperties.getNodes());
+    }
+
+    @Bean
+    public ActiveVehicleRegistry activeVehicleRegistry() {
+        return new ActiveVehicleRegistry();
+    }
+}
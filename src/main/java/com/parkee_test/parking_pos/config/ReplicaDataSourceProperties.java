@@ -0,0 +1,23 @@
+package com.parkee_test.parking_pos.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "parking.datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    private boolean enabled = false;
+    private String url;
+    private String username;
+    private String password;
+    private boolean fallbackToPrimary = true;
+    private Duration maxLag = Duration.ofSeconds(2);
+    private Duration connectTimeout = Duration.ofMillis(500);
+    private Duration retryAfter = Duration.ofSeconds(10);
+}
@@ -0,0 +1,32 @@
+package com.parkee_test.parking_pos.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.parkee_test.parking_pos.repository.ShiftSummaryRepository;
+import com.parkee_test.parking_pos.repository.TicketRepository;
+import com.parkee_test.parking_pos.shift.ShiftAggregate;
+import com.parkee_test.parking_pos.shift.ShiftLedger;
+
+@Configuration
+public class ShiftConfig {
+
+    @Bean
+    public ShiftLedger shiftLedger(ShiftSummaryRepository shiftSummaryRepository, TicketRepository ticketRepository,
+            @Value("${parking.shift.closed-check-interval:1s}") Duration closedCheckInterval,
+            @Value("${parking.shift.sole-writer:false}") boolean soleWriter,
+            @Value("${parking.shift.close-timeout:5s}") Duration closeTimeout) {
+        return new ShiftLedger(shiftId -> shiftSummaryRepository.findById(shiftId)
+                .map(summary -> ShiftLedger.closedTotals(summary.getCashierId(),
+                        new ShiftAggregate(summary.getTicketCount(), summary.getTotalAmount(),
+                                summary.getMinAmount(), summary.getMaxAmount())))
+                .orElseGet(() -> ShiftLedger.openTotals(null, ticketRepository.aggregateShift(shiftId))),
+                shiftSummaryRepository::existsById,
+                closedCheckInterval.toMillis(),
+                soleWriter ? null : ticketRepository::aggregateShift,
+                closeTimeout.toMillis());
+    }
+}
@@ -0,0 +1,38 @@
+package com.parkee_test.parking_pos.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.parkee_test.parking_pos.simulation.JdbcCompletedTicketSource;
+import com.parkee_test.parking_pos.simulation.SimulationProperties;
+import com.parkee_test.parking_pos.simulation.TariffSimulator;
+
+@Configuration
+@EnableConfigurationProperties(SimulationProperties.class)
+public class SimulationConfig {
+
+    @Bean(destroyMethod = "close")
+    public TariffSimulator tariffSimulator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            SimulationProperties properties,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize) {
+        JdbcTemplate streamingTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streamingTemplate.setFetchSize(properties.getFetchSize());
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        // Every fork/join task holds a pooled connection while it streams, so leave most of the pool to check-in and confirm.
+        // The simulator shares this cap across all concurrent simulations.
+        int requested = properties.getParallelism() > 0
+                ? properties.getParallelism() : Runtime.getRuntime().availableProcessors();
+        int effectiveParallelism = Math.max(1,
+                Math.min(requested, Math.min(properties.getMaxConnections(), poolSize / 2)));
+        return new TariffSimulator(new JdbcCompletedTicketSource(streamingTemplate, readOnlyTransaction),
+                effectiveParallelism, properties.getChunkSize());
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.parkee_test.parking_pos.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.parkee_test.parking_pos.dto.LotRouteResponse;
+import com.parkee_test.parking_pos.lot.LotRouting;
+
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
+@RestController
+@RequestMapping("/api/lots")
+public class LotController {
+
+    private final LotRouting lotRouting;
+
+    @GetMapping("/{lotId}/route")
+    public ResponseEntity<LotRouteResponse> route(@PathVariable String lotId) {
+        String lot = lotRouting.resolveLot(lotId);
+        return ResponseEntity.ok(new LotRouteResponse(lot, lotRouting.ownerOf(lot), lotRouting.isLocal(lot)));
+    }
+}
@@ -0,0 +1,60 @@
+package com.parkee_test.parking_pos.controller;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.parkee_test.parking_pos.archive.ArchiveExportResult;
+import com.parkee_test.parking_pos.archive.TicketArchiveService;
+import com.parkee_test.parking_pos.service.TicketHistoryService;
+
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
+@RestController
+@RequestMapping("/api")
+public class ReportController {
+
+    private final TicketHistoryService ticketHistoryService;
+    private final TicketArchiveService ticketArchiveService;
+
+    @GetMapping("/history")
+    public ResponseEntity<?> history(@RequestParam(required = false) String plateNumber,
+            @RequestParam(required = false) String lotId) {
+        if (plateNumber == null || plateNumber.trim().isEmpty()) {
+            return ResponseEntity.badRequest().body("Plate number is required");
+        }
+        return ResponseEntity.ok(ticketHistoryService.findHistory(lotId, plateNumber));
+    }
+
+    @GetMapping("/reports/revenue")
+    public ResponseEntity<?> revenue(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        if (!to.isAfter(from)) {
+            return ResponseEntity.badRequest().body("Report end must be after start");
+        }
+        return ResponseEntity.ok(ticketHistoryService.revenue(from, to));
+    }
+
+    @PostMapping("/archive/{month}")
+    public ResponseEntity<?> archiveMonth(@PathVariable YearMonth month,
+            @RequestParam(defaultValue = "false") boolean overwrite) {
+        ArchiveExportResult result = ticketArchiveService.exportMonth(month, overwrite);
+
+        if (!result.isSuccess()) {
+            return ResponseEntity.badRequest().body(result.getError());
+        }
+
+        return ResponseEntity.ok(result);
+    }
+
+}
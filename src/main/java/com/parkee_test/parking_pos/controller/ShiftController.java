@@ -0,0 +1,68 @@
+package com.parkee_test.parking_pos.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.parkee_test.parking_pos.dto.ShiftAuditResponse;
+import com.parkee_test.parking_pos.dto.ShiftSummaryResponse;
+import com.parkee_test.parking_pos.entity.ShiftSummary;
+import com.parkee_test.parking_pos.service.ShiftAuditResult;
+import com.parkee_test.parking_pos.service.ShiftCloseResult;
+import com.parkee_test.parking_pos.service.ShiftService;
+
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
+@RestController
+@RequestMapping("/api/shifts")
+public class ShiftController {
+
+    private final ShiftService shiftService;
+
+    @PostMapping("/{shiftId}/close")
+    public ResponseEntity<?> close(@PathVariable String shiftId) {
+        ShiftCloseResult result = shiftService.closeShift(shiftId);
+        if (!result.isSuccess()) {
+            if ("Shift not found".equals(result.getError())) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(result.getError());
+            }
+            return ResponseEntity.badRequest().body(result.getError());
+        }
+
+        ShiftSummary summary = result.getSummary();
+        return ResponseEntity.ok(new ShiftSummaryResponse(
+                summary.getShiftId(),
+                summary.getCashierId(),
+                summary.getTicketCount(),
+                summary.getTotalAmount(),
+                summary.getMinAmount(),
+                summary.getMaxAmount(),
+                summary.getClosedAt()));
+    }
+
+    @GetMapping("/{shiftId}/audit")
+    public ResponseEntity<?> audit(@PathVariable String shiftId) {
+        ShiftAuditResult result = shiftService.auditShift(shiftId);
+        if (!result.isSuccess()) {
+            return ResponseEntity.badRequest().body(result.getError());
+        }
+
+        return ResponseEntity.ok(new ShiftAuditResponse(
+                result.getShiftId(),
+                result.isClosed(),
+                result.getRecorded().getTicketCount(),
+                result.getRecorded().getTotalAmount(),
+                result.getRecorded().getMinAmount(),
+                result.getRecorded().getMaxAmount(),
+                result.getTickets().getTicketCount(),
+                result.getTickets().getTotalAmount(),
+                result.getTickets().getMinAmount(),
+                result.getTickets().getMaxAmount(),
+                result.isConsistent()));
+    }
+}
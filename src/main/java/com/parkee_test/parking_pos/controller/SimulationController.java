@@ -0,0 +1,34 @@
+package com.parkee_test.parking_pos.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.parkee_test.parking_pos.dto.TariffSimulationRequest;
+import com.parkee_test.parking_pos.simulation.TariffSimulationResult;
+import com.parkee_test.parking_pos.simulation.TariffSimulationService;
+
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
+@RestController
+@RequestMapping("/api/simulations")
+public class SimulationController {
+
+    private final TariffSimulationService tariffSimulationService;
+
+    @PostMapping("/tariff")
+    public ResponseEntity<?> simulateTariff(@RequestBody TariffSimulationRequest request) {
+        TariffSimulationResult result = tariffSimulationService.simulate(request.getFrom(), request.getTo(),
+                request.getFirstHourFee(), request.getNextHourFee(), request.getDailyCap());
+
+        if (!result.isSuccess()) {
+            return ResponseEntity.badRequest().body(result.getError());
+        }
+
+        return ResponseEntity.ok(result.getReport());
+    }
+
+}
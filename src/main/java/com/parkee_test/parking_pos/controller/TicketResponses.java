@@ -0,0 +1,101 @@
+package com.parkee_test.parking_pos.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.parkee_test.parking_pos.dto.CheckInResponse;
+import com.parkee_test.parking_pos.dto.CheckOutPreviewResponse;
+import com.parkee_test.parking_pos.dto.ConfirmCheckOutResponse;
+import com.parkee_test.parking_pos.entity.Ticket;
+import com.parkee_test.parking_pos.service.CheckInResult;
+import com.parkee_test.parking_pos.service.CheckOutPreviewResult;
+import com.parkee_test.parking_pos.service.ConfirmCheckOutResult;
+
+public final class TicketResponses {
+
+    private TicketResponses() {
+    }
+
+    public static ResponseEntity<?> checkIn(CheckInResult result) {
+        if (!result.isSuccess()) {
+            String message = result.getError();
+            if ("Plate number is required".equals(message)) {
+                return ResponseEntity.badRequest().body(message);
+            } else if ("Vehicle already checked in".equals(message)) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(message);
+            } else if ("Lot is served by another node".equals(message)) {
+                return ResponseEntity.status(421).body(message);
+            }
+            return ResponseEntity.badRequest().body(message);
+        }
+
+        Ticket ticketResult = result.getTicket();
+        CheckInResponse response = new CheckInResponse(
+                ticketResult.getId(),
+                ticketResult.getPlateNumber(),
+                ticketResult.getCheckInTime(),
+                ticketResult.getStatus(),
+                ticketResult.getLotId(),
+                ticketResult.getEntryGate()
+        );
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    public static ResponseEntity<?> checkOutPreview(CheckOutPreviewResult result) {
+        if (!result.isSuccess()) {
+            String message = result.getError();
+            if ("Plate number is required".equals(message)) {
+                return ResponseEntity.badRequest().body(message);
+            } else if ("Active ticket not found".equals(message)) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(message);
+            } else if ("Lot is served by another node".equals(message)) {
+                return ResponseEntity.status(421).body(message);
+            }
+            return ResponseEntity.badRequest().body(message);
+        }
+
+        CheckOutPreviewResponse response = new CheckOutPreviewResponse(
+                result.getTicketId(),
+                result.getPlateNumber(),
+                result.getCheckInTime(),
+                result.getCheckOutTime(),
+                result.getTotalPrice(),
+                result.getLotId()
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    public static ResponseEntity<?> confirmCheckOut(ConfirmCheckOutResult result) {
+        if (!result.isSuccess()) {
+            String message = result.getError();
+            if ("Ticket id is required".equals(message)) {
+                return ResponseEntity.badRequest().body(message);
+            } else if ("Ticket not found".equals(message)) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(message);
+            } else if ("Ticket is not active".equals(message) || "Shift is closed".equals(message)
+                    || "Shift is assigned to another cashier".equals(message)) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(message);
+            } else if ("Lot is served by another node".equals(message)) {
+                return ResponseEntity.status(421).body(message);
+            }
+            return ResponseEntity.badRequest().body(message);
+        }
+
+        Ticket ticket = result.getTicket();
+
+        ConfirmCheckOutResponse response = new ConfirmCheckOutResponse(
+                ticket.getId(),
+                ticket.getPlateNumber(),
+                ticket.getCheckInTime(),
+                ticket.getCheckOutTime(),
+                ticket.getTotalPrice(),
+                ticket.getStatus(),
+                ticket.getLotId(),
+                ticket.getEntryGate(),
+                ticket.getExitGate()
+        );
+        return ResponseEntity.ok(response);
+    }
+}
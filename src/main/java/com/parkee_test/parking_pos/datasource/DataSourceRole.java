@@ -0,0 +1,6 @@
+package com.parkee_test.parking_pos.datasource;
+
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA,
+}
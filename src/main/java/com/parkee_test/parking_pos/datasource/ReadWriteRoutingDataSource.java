@@ -0,0 +1,93 @@
+package com.parkee_test.parking_pos.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final DataSource primary;
+    private final boolean fallbackToPrimary;
+    private final long retryAfterNanos;
+    private final LongSupplier nanoTime;
+    // While set, read-only transactions go straight to the primary instead of waiting on the replica pool again.
+    private volatile long replicaDownUntil;
+    private volatile boolean replicaDown;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, boolean fallbackToPrimary,
+            Duration retryAfter) {
+        this(primary, replica, fallbackToPrimary, retryAfter, System::nanoTime);
+    }
+
+    ReadWriteRoutingDataSource(DataSource primary, DataSource replica, boolean fallbackToPrimary,
+            Duration retryAfter, LongSupplier nanoTime) {
+        this.primary = primary;
+        this.fallbackToPrimary = fallbackToPrimary;
+        this.retryAfterNanos = retryAfter.toNanos();
+        this.nanoTime = nanoTime;
+        setTargetDataSources(Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !PrimaryReadPin.isPinned()
+                && !isReplicaMarkedDown()) {
+            return DataSourceRole.REPLICA;
+        }
+        return DataSourceRole.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        try {
+            return super.getConnection();
+        } catch (SQLException ex) {
+            if (!fallbackToPrimary || determineCurrentLookupKey() != DataSourceRole.REPLICA) {
+                throw ex;
+            }
+            markReplicaDown();
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        try {
+            return super.getConnection(username, password);
+        } catch (SQLException ex) {
+            if (!fallbackToPrimary || determineCurrentLookupKey() != DataSourceRole.REPLICA) {
+                throw ex;
+            }
+            markReplicaDown();
+            return primary.getConnection(username, password);
+        }
+    }
+
+    public boolean isReplicaMarkedDown() {
+        if (!replicaDown) {
+            return false;
+        }
+        if (nanoTime.getAsLong() - replicaDownUntil >= 0) {
+            replicaDown = false;
+            return false;
+        }
+        return true;
+    }
+
+    private void markReplicaDown() {
+        if (retryAfterNanos > 0) {
+            replicaDownUntil = nanoTime.getAsLong() + retryAfterNanos;
+            replicaDown = true;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.parkee_test.parking_pos.datasource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ReplicaStalenessGuard {
+
+    private final Clock clock;
+    private final Duration maxLag;
+    private final Map<String, Instant> lastWrites = new ConcurrentHashMap<>();
+
+    public ReplicaStalenessGuard(Clock clock, Duration maxLag) {
+        this.clock = clock;
+        this.maxLag = maxLag;
+    }
+
+    public void recordWrite(String key) {
+        Instant now = clock.instant();
+        lastWrites.put(key, now);
+        lastWrites.values().removeIf(writtenAt -> writtenAt.plus(maxLag).isBefore(now));
+    }
+
+    public boolean isReplicaStale(String key) {
+        Instant writtenAt = lastWrites.get(key);
+        return writtenAt != null && !writtenAt.plus(maxLag).isBefore(clock.instant());
+    }
+
+    public void pinIfStale(String key) {
+        if (isReplicaStale(key)) {
+            PrimaryReadPin.pinCurrentTransaction();
+        }
+    }
+}
@@ -12,4 +12,6 @@ import lombok.Setter;
 public class CheckInRequest {
 
     private String plateNumber;
+    private String lotId;
+    private String gateId;
 }
@@ -17,4 +17,6 @@ public class CheckInResponse {
     private String plateNumber;
     private LocalDateTime checkInTime;
     private TicketStatus status;
+    private String lotId;
+    private String entryGate;
 }
@@ -8,4 +8,5 @@ import lombok.Setter;
 public class CheckOutPreviewRequest {
 
     private String plateNumber;
+    private String lotId;
 }
@@ -16,4 +16,5 @@ public class CheckOutPreviewResponse {
     private LocalDateTime checkInTime;
     private LocalDateTime checkOutTime;
     private Integer totalPrice;
+    private String lotId;
 }
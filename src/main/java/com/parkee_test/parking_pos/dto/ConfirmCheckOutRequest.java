@@ -8,4 +8,7 @@ import lombok.Setter;
 public class ConfirmCheckOutRequest {
 
     private Long ticketId;
+    private String gateId;
+    private String shiftId;
+    private String cashierId;
 }
@@ -19,4 +19,7 @@ public class ConfirmCheckOutResponse {
     private LocalDateTime checkOutTime;
     private Integer totalPrice;
     private TicketStatus status;
+    private String lotId;
+    private String entryGate;
+    private String exitGate;
 }
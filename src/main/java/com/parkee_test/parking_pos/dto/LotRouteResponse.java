@@ -0,0 +1,15 @@
+package com.parkee_test.parking_pos.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class LotRouteResponse {
+
+    private String lotId;
+    private String ownerNode;
+    private boolean local;
+}
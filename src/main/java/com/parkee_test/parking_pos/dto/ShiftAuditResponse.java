@@ -0,0 +1,23 @@
+package com.parkee_test.parking_pos.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class ShiftAuditResponse {
+
+    private String shiftId;
+    private boolean closed;
+    private long recordedCount;
+    private long recordedTotal;
+    private Integer recordedMin;
+    private Integer recordedMax;
+    private long ticketCount;
+    private long ticketTotal;
+    private Integer ticketMin;
+    private Integer ticketMax;
+    private boolean consistent;
+}
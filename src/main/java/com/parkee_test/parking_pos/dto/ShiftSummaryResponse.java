@@ -0,0 +1,21 @@
+package com.parkee_test.parking_pos.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class ShiftSummaryResponse {
+
+    private String shiftId;
+    private String cashierId;
+    private long ticketCount;
+    private long totalAmount;
+    private Integer minAmount;
+    private Integer maxAmount;
+    private LocalDateTime closedAt;
+}
@@ -0,0 +1,17 @@
+package com.parkee_test.parking_pos.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class TariffSimulationRequest {
+
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private Integer firstHourFee;
+    private Integer nextHourFee;
+    private Integer dailyCap;
+}
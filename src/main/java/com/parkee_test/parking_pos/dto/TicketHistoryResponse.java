@@ -0,0 +1,24 @@
+package com.parkee_test.parking_pos.dto;
+
+import java.time.LocalDateTime;
+
+import com.parkee_test.parking_pos.entity.TicketStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class TicketHistoryResponse {
+
+    private Long ticketId;
+    private String lotId;
+    private String plateNumber;
+    private LocalDateTime checkInTime;
+    private LocalDateTime checkOutTime;
+    private Integer totalPrice;
+    private TicketStatus status;
+    private boolean archived;
+}
@@ -0,0 +1,178 @@
+package com.parkee_test.parking_pos.edge;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.parkee_test.parking_pos.entity.TicketStatus;
+import com.zaxxer.hikari.HikariDataSource;
+
+public class CentralTicketStore implements AutoCloseable {
+
+    private static final String MERGE_TICKET = """
+            MERGE INTO tickets t
+            USING (SELECT CAST(? AS VARCHAR(100)) AS origin_node,
+                          CAST(? AS BIGINT) AS origin_ticket_id,
+                          CAST(? AS VARCHAR(50)) AS lot_id,
+                          CAST(? AS VARCHAR(50)) AS entry_gate,
+                          CAST(? AS VARCHAR(50)) AS exit_gate,
+                          CAST(? AS VARCHAR(50)) AS plate_number,
+                          CAST(? AS TIMESTAMP) AS check_in_time,
+                          CAST(? AS TIMESTAMP) AS check_out_time,
+                          CAST(? AS INTEGER) AS total_price,
+                          CAST(? AS VARCHAR(20)) AS status) s
+            ON t.origin_node = s.origin_node AND t.origin_ticket_id = s.origin_ticket_id
+            WHEN MATCHED AND t.status <> 'COMPLETED' THEN
+                UPDATE SET check_out_time = s.check_out_time, exit_gate = s.exit_gate, total_price = s.total_price,
+                           status = s.status
+            WHEN NOT MATCHED THEN
+                INSERT (origin_node, origin_ticket_id, lot_id, entry_gate, exit_gate, plate_number, check_in_time,
+                        check_out_time, total_price, status)
+                VALUES (s.origin_node, s.origin_ticket_id, s.lot_id, s.entry_gate, s.exit_gate, s.plate_number,
+                        s.check_in_time, s.check_out_time, s.total_price, s.status)
+            """;
+
+    private static final String FIND_FOREIGN_ACTIVE = """
+            SELECT id, lot_id, plate_number, origin_node FROM tickets
+            WHERE status = 'ACTIVE' AND plate_number IN (:plates)
+              AND (origin_node IS NULL OR origin_node <> :node)
+            """;
+
+    // A retried push sees the same pair again; the pair is recorded once.
+    private static final String INSERT_CONFLICT = """
+            INSERT INTO ticket_sync_conflicts
+                (plate_number, origin_node, origin_ticket_id, other_origin_node, other_ticket_id, detected_at)
+            SELECT ?, ?, ?, ?, ?, ?
+            WHERE NOT EXISTS (
+                SELECT 1 FROM ticket_sync_conflicts
+                WHERE origin_node = ? AND origin_ticket_id = ? AND other_ticket_id = ?)
+            """;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public CentralTicketStore(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    public static CentralTicketStore connect(EdgeSyncProperties.Central central) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(central.getUrl())
+                .username(central.getUsername())
+                .password(central.getPassword())
+                .build();
+        dataSource.setPoolName("central-sync");
+        dataSource.setMaximumPoolSize(2);
+        dataSource.setInitializationFailTimeout(-1);
+        return new CentralTicketStore(dataSource);
+    }
+
+    public int push(String nodeId, List<SyncedTicket> tickets, LocalDateTime now) {
+        if (tickets.isEmpty()) {
+            return 0;
+        }
+        return transactionTemplate.execute(status -> {
+            int conflicts = recordConflicts(nodeId, tickets, now);
+            jdbcTemplate.batchUpdate(MERGE_TICKET, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    SyncedTicket ticket = tickets.get(i);
+                    ps.setString(1, nodeId);
+                    ps.setLong(2, ticket.getTicketId());
+                    ps.setString(3, ticket.getLotId());
+                    ps.setString(4, ticket.getEntryGate());
+                    ps.setString(5, ticket.getExitGate());
+                    ps.setString(6, ticket.getPlateNumber());
+                    ps.setObject(7, ticket.getCheckInTime(), Types.TIMESTAMP);
+                    if (ticket.getCheckOutTime() == null) {
+                        ps.setNull(8, Types.TIMESTAMP);
+                    } else {
+                        ps.setObject(8, ticket.getCheckOutTime(), Types.TIMESTAMP);
+                    }
+                    if (ticket.getTotalPrice() == null) {
+                        ps.setNull(9, Types.INTEGER);
+                    } else {
+                        ps.setInt(9, ticket.getTotalPrice());
+                    }
+                    ps.setString(10, ticket.getStatus());
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return tickets.size();
+                }
+            });
+            return conflicts;
+        });
+    }
+
+    private int recordConflicts(String nodeId, List<SyncedTicket> tickets, LocalDateTime now) {
+        Map<String, SyncedTicket> incomingActive = tickets.stream()
+                .filter(ticket -> TicketStatus.ACTIVE.name().equals(ticket.getStatus()))
+                .collect(Collectors.toMap(ticket -> lotPlateKey(ticket.getLotId(), ticket.getPlateNumber()),
+                        ticket -> ticket, (first, second) -> second));
+        if (incomingActive.isEmpty()) {
+            return 0;
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("plates", incomingActive.values().stream().map(SyncedTicket::getPlateNumber).toList())
+                .addValue("node", nodeId);
+        List<Object[]> conflicts = new ArrayList<>();
+        namedJdbcTemplate.query(FIND_FOREIGN_ACTIVE, params, rs -> {
+            SyncedTicket incoming = incomingActive.get(lotPlateKey(rs.getString("lot_id"), rs.getString("plate_number")));
+            if (incoming == null) {
+                return;
+            }
+            conflicts.add(new Object[] {
+                incoming.getPlateNumber(),
+                nodeId,
+                incoming.getTicketId(),
+                rs.getString("origin_node"),
+                rs.getLong("id"),
+                now,
+                nodeId,
+                incoming.getTicketId(),
+                rs.getLong("id")
+            });
+        });
+
+        if (conflicts.isEmpty()) {
+            return 0;
+        }
+        return Arrays.stream(jdbcTemplate.batchUpdate(INSERT_CONFLICT, conflicts)).sum();
+    }
+
+    private static String lotPlateKey(String lotId, String plateNumber) {
+        return lotId + "/" + plateNumber;
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.parkee_test.parking_pos.edge;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Profile("edge")
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(EdgeSyncProperties.class)
+public class EdgeConfig {
+
+    @Bean(destroyMethod = "close")
+    public CentralTicketStore centralTicketStore(EdgeSyncProperties properties) {
+        return CentralTicketStore.connect(properties.getCentral());
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.parkee_test.parking_pos.edge;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "parking.edge")
+public class EdgeSyncProperties {
+
+    private String nodeId;
+    private Central central = new Central();
+    private Sync sync = new Sync();
+
+    @Getter
+    @Setter
+    public static class Central {
+
+        private String url;
+        private String username;
+        private String password;
+    }
+
+    @Getter
+    @Setter
+    public static class Sync {
+
+        private int batchSize = 500;
+    }
+}
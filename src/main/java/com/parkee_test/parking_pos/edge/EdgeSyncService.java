@@ -0,0 +1,90 @@
+package com.parkee_test.parking_pos.edge;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Profile("edge")
+@RequiredArgsConstructor
+@Service
+public class EdgeSyncService {
+
+    private static final String SELECT_CHANGES = """
+            SELECT c.id AS change_id, t.id, t.lot_id, t.entry_gate, t.exit_gate, t.plate_number,
+                   t.check_in_time, t.check_out_time, t.total_price, t.status
+            FROM ticket_changes c JOIN tickets t ON t.id = c.ticket_id
+            ORDER BY c.id
+            LIMIT ?
+            """;
+
+    private static final RowMapper<SyncedTicket> SYNCED_TICKET_MAPPER = (rs, rowNum) -> new SyncedTicket(
+            rs.getLong("change_id"),
+            rs.getLong("id"),
+            rs.getString("lot_id"),
+            rs.getString("entry_gate"),
+            rs.getString("exit_gate"),
+            rs.getString("plate_number"),
+            rs.getObject("check_in_time", LocalDateTime.class),
+            rs.getObject("check_out_time", LocalDateTime.class),
+            (Integer) rs.getObject("total_price"),
+            rs.getString("status"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CentralTicketStore centralTicketStore;
+    private final EdgeSyncProperties properties;
+    private final Clock clock;
+
+    @Scheduled(fixedDelayString = "${parking.edge.sync.interval:PT5S}")
+    public void syncPending() {
+        try {
+            int shipped;
+            do {
+                shipped = syncBatch();
+            } while (shipped == properties.getSync().getBatchSize());
+        } catch (RuntimeException ex) {
+            log.warn("Edge sync to central failed, will retry: {}", ex.getMessage());
+        }
+    }
+
+    public int syncBatch() {
+        LocalDateTime now = LocalDateTime.ofInstant(clock.instant(), clock.getZone());
+        // Every unshipped change row is read, not just ids past a cursor, so a transaction that committed a
+        // lower id after a later one was shipped is still picked up on the next pass.
+        List<SyncedTicket> changes = jdbcTemplate.query(SELECT_CHANGES, SYNCED_TICKET_MAPPER,
+                properties.getSync().getBatchSize());
+        if (changes.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, SyncedTicket> latestByTicket = new LinkedHashMap<>();
+        for (SyncedTicket change : changes) {
+            latestByTicket.put(change.getTicketId(), change);
+        }
+
+        int conflicts = centralTicketStore.push(properties.getNodeId(), new ArrayList<>(latestByTicket.values()), now);
+        if (conflicts > 0) {
+            log.warn("Edge {} shipped {} ticket(s) whose plate is also active at another lot", properties.getNodeId(), conflicts);
+        }
+
+        List<Object[]> shippedIds = changes.stream()
+                .map(change -> new Object[] { change.getChangeId() })
+                .toList();
+        jdbcTemplate.batchUpdate("DELETE FROM ticket_changes WHERE id = ?", shippedIds);
+        jdbcTemplate.update("UPDATE edge_sync_cursor SET last_change_id = GREATEST(last_change_id, ?), synced_at = ? WHERE id = 1",
+                changes.get(changes.size() - 1).getChangeId(), now);
+        return changes.size();
+    }
+}
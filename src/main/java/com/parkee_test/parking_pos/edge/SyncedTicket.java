@@ -0,0 +1,22 @@
+package com.parkee_test.parking_pos.edge;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SyncedTicket {
+
+    private final long changeId;
+    private final long ticketId;
+    private final String lotId;
+    private final String entryGate;
+    private final String exitGate;
+    private final String plateNumber;
+    private final LocalDateTime checkInTime;
+    private final LocalDateTime checkOutTime;
+    private final Integer totalPrice;
+    private final String status;
+}
@@ -0,0 +1,23 @@
+package com.parkee_test.parking_pos.edge;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.parkee_test.parking_pos.service.TicketChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+
+@Profile("edge")
+@RequiredArgsConstructor
+@Component
+public class TicketChangeRecorder {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener
+    public void onTicketChanged(TicketChangedEvent event) {
+        jdbcTemplate.update("INSERT INTO ticket_changes (ticket_id) VALUES (?)", event.getTicket().getId());
+    }
+}
@@ -0,0 +1,47 @@
+package com.parkee_test.parking_pos.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "shift_summaries")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ShiftSummary {
+
+    @Id
+    @Column(name = "shift_id", length = 50)
+    private String shiftId;
+
+    @Column(name = "cashier_id", length = 50)
+    private String cashierId;
+
+    @Column(name = "ticket_count", nullable = false)
+    private long ticketCount;
+
+    @Column(name = "total_amount", nullable = false)
+    private long totalAmount;
+
+    @Column(name = "min_amount")
+    private Integer minAmount;
+
+    @Column(name = "max_amount")
+    private Integer maxAmount;
+
+    @Column(name = "closed_at", nullable = false)
+    private LocalDateTime closedAt;
+
+}
@@ -9,7 +9,12 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
+import org.hibernate.annotations.ColumnDefault;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -17,7 +22,13 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "tickets")
+@Table(name = "tickets", uniqueConstraints = {
+    @UniqueConstraint(name = "uq_tickets_origin", columnNames = {"origin_node", "origin_ticket_id"})
+}, indexes = {
+    @Index(name = "idx_tickets_lot_plate_status", columnList = "lot_id, plate_number, status"),
+    @Index(name = "idx_tickets_lot_status_check_out", columnList = "lot_id, status, check_out_time"),
+    @Index(name = "idx_tickets_shift_status", columnList = "shift_id, status")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -29,6 +40,22 @@ public class Ticket {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @ColumnDefault("'MAIN'")
+    @Column(name = "lot_id", nullable = false, length = 50)
+    private String lotId;
+
+    @Column(name = "entry_gate", length = 50)
+    private String entryGate;
+
+    @Column(name = "exit_gate", length = 50)
+    private String exitGate;
+
+    @Column(name = "shift_id", length = 50)
+    private String shiftId;
+
+    @Column(name = "cashier_id", length = 50)
+    private String cashierId;
+
     @Column(name = "plate_number", nullable = false)
     private String plateNumber;
 
@@ -45,4 +72,15 @@ public class Ticket {
     @Column(nullable = false)
     private TicketStatus status;
 
+    @Column(name = "origin_node")
+    private String originNode;
+
+    @Column(name = "origin_ticket_id")
+    private Long originTicketId;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
 }
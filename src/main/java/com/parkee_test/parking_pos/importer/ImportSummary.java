@@ -0,0 +1,14 @@
+package com.parkee_test.parking_pos.importer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ImportSummary {
+
+    private final long imported;
+    private final long rejected;
+    private final long resumedAfterLine;
+    private final long elapsedMillis;
+}
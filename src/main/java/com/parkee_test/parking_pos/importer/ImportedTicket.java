@@ -0,0 +1,20 @@
+package com.parkee_test.parking_pos.importer;
+
+import java.time.LocalDateTime;
+
+import com.parkee_test.parking_pos.entity.TicketStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ImportedTicket {
+
+    private final String lotId;
+    private final String plateNumber;
+    private final LocalDateTime checkInTime;
+    private final LocalDateTime checkOutTime;
+    private final Integer totalPrice;
+    private final TicketStatus status;
+}
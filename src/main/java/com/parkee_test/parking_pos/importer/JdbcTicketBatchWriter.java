@@ -0,0 +1,96 @@
+package com.parkee_test.parking_pos.importer;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class JdbcTicketBatchWriter implements TicketBatchWriter {
+
+    private static final String CREATE_CHECKPOINTS = """
+            CREATE TABLE IF NOT EXISTS import_checkpoints (
+                source VARCHAR(255) PRIMARY KEY,
+                last_line BIGINT NOT NULL
+            )
+            """;
+
+    private static final String INSERT_TICKET = """
+            INSERT INTO tickets (lot_id, plate_number, check_in_time, check_out_time, total_price, status)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public JdbcTicketBatchWriter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public long lastCommittedLine(String source) {
+        jdbcTemplate.execute(CREATE_CHECKPOINTS);
+        List<Long> lines = jdbcTemplate.queryForList(
+                "SELECT last_line FROM import_checkpoints WHERE source = ?", Long.class, source);
+        return lines.isEmpty() ? 0 : lines.get(0);
+    }
+
+    @Override
+    public Set<String> activeLotPlates() {
+        Set<String> active = new HashSet<>();
+        jdbcTemplate.query("SELECT lot_id, plate_number FROM tickets WHERE status = 'ACTIVE'",
+                (RowCallbackHandler) rs -> active.add(
+                        TicketImportValidator.activeKey(rs.getString("lot_id"), rs.getString("plate_number"))));
+        return active;
+    }
+
+    // A check-in that commits after activeLotPlates() was read fails the batch on uq_tickets_active_lot_plate;
+    // nothing of that batch is written and a re-run resumes from the last checkpoint with fresh ACTIVE rows.
+    @Override
+    public void write(String source, List<ImportedTicket> tickets, long lastLine) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!tickets.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_TICKET, new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ImportedTicket ticket = tickets.get(i);
+                        ps.setString(1, ticket.getLotId());
+                        ps.setString(2, ticket.getPlateNumber());
+                        ps.setTimestamp(3, Timestamp.valueOf(ticket.getCheckInTime()));
+                        if (ticket.getCheckOutTime() != null) {
+                            ps.setTimestamp(4, Timestamp.valueOf(ticket.getCheckOutTime()));
+                        } else {
+                            ps.setNull(4, Types.TIMESTAMP);
+                        }
+                        if (ticket.getTotalPrice() != null) {
+                            ps.setInt(5, ticket.getTotalPrice());
+                        } else {
+                            ps.setNull(5, Types.INTEGER);
+                        }
+                        ps.setString(6, ticket.getStatus().name());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return tickets.size();
+                    }
+                });
+            }
+
+            int updated = jdbcTemplate.update(
+                    "UPDATE import_checkpoints SET last_line = ? WHERE source = ?", lastLine, source);
+            if (updated == 0) {
+                jdbcTemplate.update(
+                        "INSERT INTO import_checkpoints (source, last_line) VALUES (?, ?)", source, lastLine);
+            }
+        });
+    }
+}
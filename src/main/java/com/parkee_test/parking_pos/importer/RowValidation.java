@@ -0,0 +1,21 @@
+package com.parkee_test.parking_pos.importer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RowValidation {
+
+    private final boolean success;
+    private final ImportedTicket ticket;
+    private final String error;
+
+    public static RowValidation ok(ImportedTicket ticket) {
+        return new RowValidation(true, ticket, null);
+    }
+
+    public static RowValidation error(String message) {
+        return new RowValidation(false, null, message);
+    }
+}
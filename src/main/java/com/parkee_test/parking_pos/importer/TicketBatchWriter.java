@@ -0,0 +1,13 @@
+package com.parkee_test.parking_pos.importer;
+
+import java.util.List;
+import java.util.Set;
+
+public interface TicketBatchWriter {
+
+    long lastCommittedLine(String source);
+
+    Set<String> activeLotPlates();
+
+    void write(String source, List<ImportedTicket> tickets, long lastLine);
+}
@@ -0,0 +1,216 @@
+package com.parkee_test.parking_pos.importer;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+public class TicketCsvImporter {
+
+    private static final Chunk END = new Chunk(List.of(), -1);
+
+    private final TicketBatchWriter writer;
+    private final Function<Set<String>, TicketImportValidator> validatorFactory;
+    private final int batchSize;
+    private final int queueCapacity;
+
+    public TicketCsvImporter(TicketBatchWriter writer, Function<Set<String>, TicketImportValidator> validatorFactory,
+            int batchSize, int queueCapacity) {
+        this.writer = writer;
+        this.validatorFactory = validatorFactory;
+        this.batchSize = batchSize;
+        this.queueCapacity = queueCapacity;
+    }
+
+    public ImportSummary importFile(Path csv, Path rejectedReport) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        String source = csv.getFileName().toString();
+        long resumeAfter = writer.lastCommittedLine(source);
+        TicketImportValidator rowValidator = validatorFactory.apply(writer.activeLotPlates());
+
+        BlockingQueue<Chunk> parsed = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<Chunk> validated = new ArrayBlockingQueue<>(queueCapacity);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Thread parser = Thread.ofPlatform().name("ticket-import-parse").start(
+                () -> guard(failure, () -> parse(csv, resumeAfter, parsed)));
+        Thread validator = Thread.ofPlatform().name("ticket-import-validate").start(
+                () -> guard(failure, () -> validate(rowValidator, parsed, validated)));
+
+        long imported = 0;
+        long rejected = 0;
+        // Rejected lines are appended only once their batch's checkpoint committed, so a resumed run never repeats them.
+        try (BufferedWriter report = Files.newBufferedWriter(rejectedReport, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            while (true) {
+                Chunk chunk = validated.take();
+                if (chunk == END) {
+                    break;
+                }
+                writer.write(source, chunk.tickets, chunk.lastLine);
+                for (String line : chunk.rejectedLines) {
+                    report.write(line);
+                    report.newLine();
+                }
+                report.flush();
+                imported += chunk.tickets.size();
+                rejected += chunk.rejectedLines.size();
+            }
+        } finally {
+            parser.interrupt();
+            validator.interrupt();
+            parser.join();
+            validator.join();
+        }
+
+        Throwable error = failure.get();
+        if (error instanceof IOException ioException) {
+            throw ioException;
+        } else if (error instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        } else if (error != null) {
+            throw new IllegalStateException(error);
+        }
+
+        return new ImportSummary(imported, rejected, resumeAfter, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void parse(Path csv, long resumeAfter, BlockingQueue<Chunk> parsed) throws Exception {
+        boolean completed = false;
+        try (BufferedReader reader = Files.newBufferedReader(csv, StandardCharsets.UTF_8)) {
+            List<RawLine> lines = new ArrayList<>(batchSize);
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber == 1 || lineNumber <= resumeAfter || line.isBlank()) {
+                    continue;
+                }
+                lines.add(new RawLine(lineNumber, line));
+                if (lines.size() == batchSize) {
+                    parsed.put(new Chunk(lines, lineNumber));
+                    lines = new ArrayList<>(batchSize);
+                }
+            }
+            if (!lines.isEmpty()) {
+                parsed.put(new Chunk(lines, lineNumber));
+            }
+            completed = true;
+        } finally {
+            finish(parsed, completed);
+        }
+    }
+
+    private void validate(TicketImportValidator validator, BlockingQueue<Chunk> parsed, BlockingQueue<Chunk> validated)
+            throws Exception {
+        boolean completed = false;
+        try {
+            while (true) {
+                Chunk chunk = parsed.take();
+                if (chunk == END) {
+                    break;
+                }
+                List<ImportedTicket> tickets = new ArrayList<>(chunk.lines.size());
+                List<String> rejectedLines = new ArrayList<>();
+                for (RawLine line : chunk.lines) {
+                    RowValidation result = validator.validate(splitCsv(line.text));
+                    if (result.isSuccess()) {
+                        tickets.add(result.getTicket());
+                    } else {
+                        rejectedLines.add(line.number + ",\"" + result.getError().replace("\"", "\"\"") + "\","
+                                + line.text);
+                    }
+                }
+                validated.put(new Chunk(tickets, chunk.lastLine, rejectedLines));
+            }
+            completed = true;
+        } finally {
+            finish(validated, completed);
+        }
+    }
+
+    private static void finish(BlockingQueue<Chunk> queue, boolean completed) throws InterruptedException {
+        if (completed) {
+            queue.put(END);
+        } else {
+            // Failed or interrupted: the consumer only needs to stop, so drop pending work instead of blocking.
+            queue.clear();
+            queue.offer(END);
+        }
+    }
+
+    static String[] splitCsv(String line) {
+        List<String> columns = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                if (quoted && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (c == ',' && !quoted) {
+                columns.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        columns.add(current.toString());
+        return columns.toArray(String[]::new);
+    }
+
+    private static void guard(AtomicReference<Throwable> failure, ThrowingRunnable task) {
+        try {
+            task.run();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (Exception ex) {
+            failure.compareAndSet(null, ex);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+
+        void run() throws Exception;
+    }
+
+    private record RawLine(long number, String text) {
+    }
+
+    private static final class Chunk {
+
+        private final List<RawLine> lines;
+        private final List<ImportedTicket> tickets;
+        private final long lastLine;
+        private final List<String> rejectedLines;
+
+        private Chunk(List<RawLine> lines, long lastLine) {
+            this.lines = lines;
+            this.tickets = List.of();
+            this.lastLine = lastLine;
+            this.rejectedLines = List.of();
+        }
+
+        private Chunk(List<ImportedTicket> tickets, long lastLine, List<String> rejectedLines) {
+            this.lines = List.of();
+            this.tickets = tickets;
+            this.lastLine = lastLine;
+            this.rejectedLines = rejectedLines;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.parkee_test.parking_pos.importer;
+
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "parking.import", name = "file")
+public class TicketImportRunner implements ApplicationRunner {
+
+    private final TicketCsvImporter ticketCsvImporter;
+
+    @Value("${parking.import.file}")
+    private Path file;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        Path rejectedReport = file.resolveSibling(file.getFileName() + ".rejected.csv");
+        ImportSummary summary = ticketCsvImporter.importFile(file, rejectedReport);
+        log.info("Imported {} tickets from {} ({} rejected, resumed after line {}) in {} ms",
+                summary.getImported(), file, summary.getRejected(), summary.getResumedAfterLine(),
+                summary.getElapsedMillis());
+    }
+}
@@ -0,0 +1,103 @@
+package com.parkee_test.parking_pos.importer;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.parkee_test.parking_pos.entity.TicketStatus;
+import com.parkee_test.parking_pos.lot.LotRouting;
+import com.parkee_test.parking_pos.service.FeeResult;
+import com.parkee_test.parking_pos.service.ParkingFeeCalculator;
+import com.parkee_test.parking_pos.service.PlateNumberValidator;
+
+public class TicketImportValidator {
+
+    private static final int PLATE = 0;
+    private static final int CHECK_IN = 1;
+    private static final int CHECK_OUT = 2;
+    private static final int TOTAL_PRICE = 3;
+    private static final int LOT = 4;
+
+    private final ParkingFeeCalculator parkingFeeCalculator;
+    private final LotRouting lotRouting;
+    private final Set<String> activePlates;
+
+    // Seeded with the ACTIVE tickets already in the database, which also covers rows committed by an interrupted run.
+    public TicketImportValidator(ParkingFeeCalculator parkingFeeCalculator, LotRouting lotRouting,
+            Set<String> existingActive) {
+        this.parkingFeeCalculator = parkingFeeCalculator;
+        this.lotRouting = lotRouting;
+        this.activePlates = new HashSet<>(existingActive);
+    }
+
+    public static String activeKey(String lotId, String plateNumber) {
+        return lotId + "/" + plateNumber;
+    }
+
+    public RowValidation validate(String[] columns) {
+        if (columns.length < 2) {
+            return RowValidation.error("Expected plate_number,check_in_time[,check_out_time,total_price,lot_id]");
+        }
+
+        String error = PlateNumberValidator.validate(columns[PLATE]);
+        if (error != null) {
+            return RowValidation.error(error);
+        }
+        String normalizedPlate = PlateNumberValidator.normalize(columns[PLATE]);
+        String lot = lotRouting.resolveLot(column(columns, LOT));
+
+        LocalDateTime checkIn;
+        LocalDateTime checkOut;
+        try {
+            checkIn = parseTime(column(columns, CHECK_IN));
+            checkOut = parseTime(column(columns, CHECK_OUT));
+        } catch (DateTimeParseException ex) {
+            return RowValidation.error("Invalid timestamp: " + ex.getParsedString());
+        }
+        if (checkIn == null) {
+            return RowValidation.error("Check-in time is required");
+        }
+
+        if (checkOut == null) {
+            if (!activePlates.add(activeKey(lot, normalizedPlate))) {
+                return RowValidation.error("Vehicle already checked in");
+            }
+            return RowValidation.ok(new ImportedTicket(lot, normalizedPlate, checkIn, null, null, TicketStatus.ACTIVE));
+        }
+
+        error = parkingFeeCalculator.validationCheckTime(checkIn, checkOut);
+        if (error != null) {
+            return RowValidation.error(error);
+        }
+
+        Integer totalPrice;
+        String price = column(columns, TOTAL_PRICE);
+        if (price == null) {
+            FeeResult feeResult = parkingFeeCalculator.calculateFee(checkIn, checkOut);
+            totalPrice = feeResult.getFee();
+        } else {
+            try {
+                totalPrice = Integer.valueOf(price);
+            } catch (NumberFormatException ex) {
+                return RowValidation.error("Invalid total price: " + price);
+            }
+            if (totalPrice < 0) {
+                return RowValidation.error("Total price cannot be negative");
+            }
+        }
+
+        return RowValidation.ok(new ImportedTicket(lot, normalizedPlate, checkIn, checkOut, totalPrice, TicketStatus.COMPLETED));
+    }
+
+    private static String column(String[] columns, int index) {
+        if (index >= columns.length || columns[index].isBlank()) {
+            return null;
+        }
+        return columns[index].trim();
+    }
+
+    private static LocalDateTime parseTime(String value) {
+        return value == null ? null : LocalDateTime.parse(value.replace(' ', 'T'));
+    }
+}
@@ -0,0 +1,30 @@
+package com.parkee_test.parking_pos.lot;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ActiveVehicleRegistry {
+
+    private final Map<String, Set<String>> lots = new ConcurrentHashMap<>();
+
+    public boolean claim(String lotId, String plateNumber) {
+        return shard(lotId).add(plateNumber);
+    }
+
+    public void release(String lotId, String plateNumber) {
+        shard(lotId).remove(plateNumber);
+    }
+
+    public boolean isClaimed(String lotId, String plateNumber) {
+        return shard(lotId).contains(plateNumber);
+    }
+
+    public int claimedCount(String lotId) {
+        return shard(lotId).size();
+    }
+
+    private Set<String> shard(String lotId) {
+        return lots.computeIfAbsent(lotId, key -> ConcurrentHashMap.newKeySet());
+    }
+}
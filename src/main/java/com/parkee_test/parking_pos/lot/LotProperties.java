@@ -0,0 +1,19 @@
+package com.parkee_test.parking_pos.lot;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "parking.lots")
+public class LotProperties {
+
+    private String defaultLot = "MAIN";
+    private String nodeId;
+    private List<String> nodes = new ArrayList<>();
+}
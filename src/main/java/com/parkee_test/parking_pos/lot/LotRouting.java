@@ -0,0 +1,68 @@
+package com.parkee_test.parking_pos.lot;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+public class LotRouting {
+
+    private final String defaultLot;
+    private final String nodeId;
+    private final List<String> nodes;
+
+    public LotRouting(String defaultLot, String nodeId, List<String> nodes) {
+        this.defaultLot = normalize(defaultLot);
+        this.nodeId = nodeId;
+        this.nodes = List.copyOf(nodes);
+        if (!this.nodes.isEmpty() && !this.nodes.contains(nodeId)) {
+            throw new IllegalArgumentException("parking.lots.node-id must be one of parking.lots.nodes");
+        }
+    }
+
+    public String resolveLot(String lotId) {
+        if (lotId == null || lotId.isBlank()) {
+            return defaultLot;
+        }
+        return normalize(lotId);
+    }
+
+    // Rendezvous hashing: every node (and any proxy with the same node list) picks the same owner,
+    // and adding a node only moves the lots that the new node wins.
+    public String ownerOf(String lotId) {
+        if (nodes.isEmpty()) {
+            return nodeId;
+        }
+        String owner = null;
+        long best = Long.MIN_VALUE;
+        for (String node : nodes) {
+            long score = score(node, lotId);
+            if (owner == null || score > best || (score == best && node.compareTo(owner) < 0)) {
+                owner = node;
+                best = score;
+            }
+        }
+        return owner;
+    }
+
+    public boolean isLocal(String lotId) {
+        return nodes.isEmpty() || ownerOf(lotId).equals(nodeId);
+    }
+
+    static long score(String node, String lotId) {
+        // 64-bit FNV-1a over "node/lot", finished with a murmur3 mix so similar ids spread evenly.
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : (node + "/" + lotId).getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static String normalize(String lotId) {
+        return lotId.trim().toUpperCase();
+    }
+}
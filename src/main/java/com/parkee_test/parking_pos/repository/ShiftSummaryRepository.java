@@ -0,0 +1,9 @@
+package com.parkee_test.parking_pos.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.parkee_test.parking_pos.entity.ShiftSummary;
+
+public interface ShiftSummaryRepository extends JpaRepository<ShiftSummary, String> {
+
+}
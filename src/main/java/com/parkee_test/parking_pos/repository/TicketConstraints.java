@@ -0,0 +1,19 @@
+package com.parkee_test.parking_pos.repository;
+
+import java.util.Locale;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+public final class TicketConstraints {
+
+    // Partial unique index in db/ddl.sql: one ACTIVE ticket per (lot_id, plate_number).
+    public static final String ACTIVE_PLATE_INDEX = "uq_tickets_active_lot_plate";
+
+    private TicketConstraints() {
+    }
+
+    public static boolean isActivePlateViolation(DataIntegrityViolationException ex) {
+        String message = ex.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(ACTIVE_PLATE_INDEX);
+    }
+}
@@ -1,14 +1,52 @@
 package com.parkee_test.parking_pos.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.parkee_test.parking_pos.entity.Ticket;
 import com.parkee_test.parking_pos.entity.TicketStatus;
+import com.parkee_test.parking_pos.shift.ShiftAggregate;
 
 public interface TicketRepository extends JpaRepository<Ticket, Long> {
 
-    Optional<Ticket> findByPlateNumberAndStatus(String plateNumber, TicketStatus status);
-    
+    Optional<Ticket> findByLotIdAndPlateNumberAndStatus(String lotId, String plateNumber, TicketStatus status);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Ticket t where t.id = :id")
+    Optional<Ticket> findByIdForUpdate(@Param("id") Long id);
+
+    List<Ticket> findByPlateNumberOrderByCheckInTimeDesc(String plateNumber);
+
+    List<Ticket> findByLotIdAndPlateNumberOrderByCheckInTimeDesc(String lotId, String plateNumber);
+
+    long countByStatusAndCheckOutTimeGreaterThanEqualAndCheckOutTimeLessThan(TicketStatus status,
+            LocalDateTime from, LocalDateTime to);
+
+    @Query("select coalesce(sum(t.totalPrice), 0L) from Ticket t "
+            + "where t.status = com.parkee_test.parking_pos.entity.TicketStatus.COMPLETED "
+            + "and t.checkOutTime >= :from and t.checkOutTime < :to")
+    long sumCompletedRevenue(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("select new com.parkee_test.parking_pos.shift.ShiftAggregate("
+            + "count(t), coalesce(sum(t.totalPrice), 0L), min(t.totalPrice), max(t.totalPrice)) from Ticket t "
+            + "where t.status = com.parkee_test.parking_pos.entity.TicketStatus.COMPLETED and t.shiftId = :shiftId")
+    ShiftAggregate aggregateShift(@Param("shiftId") String shiftId);
+
+    @Query("select t.id from Ticket t where t.shiftId = :shiftId")
+    List<Long> findIdsByShiftId(@Param("shiftId") String shiftId);
+
+    @Modifying
+    @Query("delete from Ticket t "
+            + "where t.status = com.parkee_test.parking_pos.entity.TicketStatus.COMPLETED and t.id in :ids")
+    int deleteCompletedByIdIn(@Param("ids") Collection<Long> ids);
+
 }
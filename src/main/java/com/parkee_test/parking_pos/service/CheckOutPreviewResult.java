@@ -11,17 +11,18 @@ public class CheckOutPreviewResult {
 
     private final boolean success;
     private final Long ticketId;
+    private final String lotId;
     private final String plateNumber;
     private final LocalDateTime checkInTime;
     private final LocalDateTime checkOutTime;
     private final Integer totalPrice;
     private final String error;
 
-    public static CheckOutPreviewResult ok(Long ticketId, String plateNumber, LocalDateTime checkInTime, LocalDateTime checkOutTime, Integer totalPrice) {
-        return new CheckOutPreviewResult(true, ticketId, plateNumber, checkInTime, checkOutTime, totalPrice, null);
+    public static CheckOutPreviewResult ok(Long ticketId, String lotId, String plateNumber, LocalDateTime checkInTime, LocalDateTime checkOutTime, Integer totalPrice) {
+        return new CheckOutPreviewResult(true, ticketId, lotId, plateNumber, checkInTime, checkOutTime, totalPrice, null);
     }
 
     public static CheckOutPreviewResult error(String message) {
-        return new CheckOutPreviewResult(false, null, null, null, null, null, message);
+        return new CheckOutPreviewResult(false, null, null, null, null, null, null, message);
     }
 }
@@ -0,0 +1,18 @@
+package com.parkee_test.parking_pos.service;
+
+public final class PlateNumberValidator {
+
+    private PlateNumberValidator() {
+    }
+
+    public static String validate(String plateNumber) {
+        if (plateNumber == null || plateNumber.trim().isEmpty()) {
+            return "Plate number is required";
+        }
+        return null;
+    }
+
+    public static String normalize(String plateNumber) {
+        return plateNumber.trim().toUpperCase();
+    }
+}
@@ -0,0 +1,31 @@
+package com.parkee_test.parking_pos.service;
+
+import com.parkee_test.parking_pos.shift.ShiftAggregate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ShiftAuditResult {
+
+    private final boolean success;
+    private final String shiftId;
+    private final boolean closed;
+    private final ShiftAggregate recorded;
+    private final ShiftAggregate tickets;
+    private final String error;
+
+    public boolean isConsistent() {
+        return success && recorded.matches(tickets);
+    }
+
+    public final static ShiftAuditResult ok(String shiftId, boolean closed, ShiftAggregate recorded,
+            ShiftAggregate tickets) {
+        return new ShiftAuditResult(true, shiftId, closed, recorded, tickets, null);
+    }
+
+    public final static ShiftAuditResult error(String message) {
+        return new ShiftAuditResult(false, null, false, null, null, message);
+    }
+}
@@ -0,0 +1,23 @@
+package com.parkee_test.parking_pos.service;
+
+import com.parkee_test.parking_pos.entity.ShiftSummary;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ShiftCloseResult {
+
+    private final boolean success;
+    private final ShiftSummary summary;
+    private final String error;
+
+    public final static ShiftCloseResult ok(ShiftSummary summary) {
+        return new ShiftCloseResult(true, summary, null);
+    }
+
+    public final static ShiftCloseResult error(String message) {
+        return new ShiftCloseResult(false, null, message);
+    }
+}
@@ -0,0 +1,90 @@
+package com.parkee_test.parking_pos.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.parkee_test.parking_pos.archive.ArchivedTicket;
+import com.parkee_test.parking_pos.archive.TicketArchiveRepository;
+import com.parkee_test.parking_pos.entity.ShiftSummary;
+import com.parkee_test.parking_pos.repository.ShiftSummaryRepository;
+import com.parkee_test.parking_pos.repository.TicketRepository;
+import com.parkee_test.parking_pos.shift.ShiftAggregate;
+import com.parkee_test.parking_pos.shift.ShiftLedger;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Service
+public class ShiftService {
+
+    private final ShiftLedger shiftLedger;
+    private final ShiftSummaryRepository shiftSummaryRepository;
+    private final TicketRepository ticketRepository;
+    private final TicketArchiveRepository ticketArchiveRepository;
+    private final Clock clock;
+
+    public ShiftCloseResult closeShift(String shiftId) {
+        if (shiftId == null || shiftId.isBlank()) {
+            return ShiftCloseResult.error("Shift id is required");
+        }
+
+        Optional<ShiftSummary> closed = shiftSummaryRepository.findById(shiftId);
+        if (closed.isPresent()) {
+            return ShiftCloseResult.ok(closed.get());
+        }
+        if (shiftLedger.cashierOf(shiftId) == null && shiftLedger.snapshot(shiftId).getTicketCount() == 0) {
+            shiftLedger.evict(shiftId);
+            return ShiftCloseResult.error("Shift not found");
+        }
+
+        // From the running totals on a sole writer; otherwise recounted from tickets so other nodes' payments count.
+        ShiftAggregate totals = shiftLedger.close(shiftId);
+        ShiftSummary summary = ShiftSummary.builder()
+                .shiftId(shiftId)
+                .cashierId(shiftLedger.cashierOf(shiftId))
+                .ticketCount(totals.getTicketCount())
+                .totalAmount(totals.getTotalAmount())
+                .minAmount(totals.getMinAmount())
+                .maxAmount(totals.getMaxAmount())
+                .closedAt(LocalDateTime.ofInstant(clock.instant(), clock.getZone()))
+                .build();
+        ShiftSummary saved = shiftSummaryRepository.save(summary);
+        shiftLedger.evict(shiftId);
+        return ShiftCloseResult.ok(saved);
+    }
+
+    // Read-write transaction so both sides are read from the primary, not a lagging replica.
+    @Transactional
+    public ShiftAuditResult auditShift(String shiftId) {
+        if (shiftId == null || shiftId.isBlank()) {
+            return ShiftAuditResult.error("Shift id is required");
+        }
+
+        Optional<ShiftSummary> closed = shiftSummaryRepository.findById(shiftId);
+        ShiftAggregate recorded = closed
+                .map(summary -> new ShiftAggregate(summary.getTicketCount(), summary.getTotalAmount(),
+                        summary.getMinAmount(), summary.getMaxAmount()))
+                .orElseGet(() -> shiftLedger.snapshot(shiftId));
+        ShiftAggregate tickets = ticketRepository.aggregateShift(shiftId);
+        // After delete-after-export, part of the shift may only be left in the monthly archive.
+        Set<Long> liveIds = new HashSet<>(ticketRepository.findIdsByShiftId(shiftId));
+        try {
+            for (ArchivedTicket archived : ticketArchiveRepository.findByShift(shiftId)) {
+                if (!liveIds.contains(archived.getId())) {
+                    tickets = tickets.plus(archived.getTotalPrice());
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return ShiftAuditResult.ok(shiftId, closed.isPresent(), recorded, tickets);
+    }
+}
@@ -0,0 +1,13 @@
+package com.parkee_test.parking_pos.service;
+
+import com.parkee_test.parking_pos.entity.Ticket;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TicketChangedEvent {
+
+    private final Ticket ticket;
+}
@@ -0,0 +1,92 @@
+package com.parkee_test.parking_pos.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.parkee_test.parking_pos.archive.ArchivedTicket;
+import com.parkee_test.parking_pos.archive.RevenueSummary;
+import com.parkee_test.parking_pos.archive.TicketArchiveRepository;
+import com.parkee_test.parking_pos.dto.TicketHistoryResponse;
+import com.parkee_test.parking_pos.entity.Ticket;
+import com.parkee_test.parking_pos.entity.TicketStatus;
+import com.parkee_test.parking_pos.lot.LotRouting;
+import com.parkee_test.parking_pos.repository.TicketRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Service
+public class TicketHistoryService {
+
+    private final TicketRepository ticketRepository;
+    private final TicketArchiveRepository ticketArchiveRepository;
+    private final LotRouting lotRouting;
+
+    @Transactional(readOnly = true)
+    // A null lot lists the plate across every lot; each entry says which lot it belongs to.
+    public List<TicketHistoryResponse> findHistory(String lotId, String plateNumber) {
+        String normalizedPlate = PlateNumberValidator.normalize(plateNumber);
+        String lot = lotId == null || lotId.isBlank() ? null : lotRouting.resolveLot(lotId);
+        List<TicketHistoryResponse> history = new ArrayList<>();
+        Set<Long> archivedIds = new HashSet<>();
+        try {
+            for (ArchivedTicket ticket : ticketArchiveRepository.findByPlate(normalizedPlate)) {
+                // Archives written before lots were recorded have no lot; they only show up in the all-lot view.
+                if (lot != null && !lot.equals(ticket.getLotId())) {
+                    continue;
+                }
+                archivedIds.add(ticket.getId());
+                history.add(new TicketHistoryResponse(ticket.getId(), ticket.getLotId(), ticket.getPlateNumber(),
+                        ticket.getCheckInTime(), ticket.getCheckOutTime(), ticket.getTotalPrice(), TicketStatus.COMPLETED,
+                        true));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        List<Ticket> live = lot == null
+                ? ticketRepository.findByPlateNumberOrderByCheckInTimeDesc(normalizedPlate)
+                : ticketRepository.findByLotIdAndPlateNumberOrderByCheckInTimeDesc(lot, normalizedPlate);
+        // Without delete-after-export an archived ticket is still in the database; report it once, from the archive.
+        for (Ticket ticket : live) {
+            if (archivedIds.contains(ticket.getId())) {
+                continue;
+            }
+            history.add(new TicketHistoryResponse(ticket.getId(), ticket.getLotId(), ticket.getPlateNumber(),
+                    ticket.getCheckInTime(), ticket.getCheckOutTime(), ticket.getTotalPrice(), ticket.getStatus(), false));
+        }
+        history.sort(Comparator.comparing(TicketHistoryResponse::getCheckInTime).reversed());
+        return history;
+    }
+
+    @Transactional(readOnly = true)
+    public RevenueSummary revenue(LocalDateTime from, LocalDateTime to) {
+        RevenueSummary total = new RevenueSummary(0, 0);
+        LocalDateTime cursor = from;
+        while (cursor.isBefore(to)) {
+            YearMonth month = YearMonth.from(cursor);
+            LocalDateTime monthEnd = month.plusMonths(1).atDay(1).atStartOfDay();
+            LocalDateTime sliceEnd = monthEnd.isBefore(to) ? monthEnd : to;
+
+            if (ticketArchiveRepository.isArchived(month)) {
+                total = total.plus(ticketArchiveRepository.revenue(month, cursor, sliceEnd));
+            } else {
+                total = total.plus(new RevenueSummary(
+                        ticketRepository.countByStatusAndCheckOutTimeGreaterThanEqualAndCheckOutTimeLessThan(
+                                TicketStatus.COMPLETED, cursor, sliceEnd),
+                        ticketRepository.sumCompletedRevenue(cursor, sliceEnd)));
+            }
+            cursor = sliceEnd;
+        }
+        return total;
+    }
+}
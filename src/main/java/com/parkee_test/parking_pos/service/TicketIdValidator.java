@@ -0,0 +1,14 @@
+package com.parkee_test.parking_pos.service;
+
+public final class TicketIdValidator {
+
+    private TicketIdValidator() {
+    }
+
+    public static String validate(Long ticketId) {
+        if (ticketId == null) {
+            return "Ticket id is required";
+        }
+        return null;
+    }
+}
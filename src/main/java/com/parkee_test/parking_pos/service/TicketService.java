@@ -4,11 +4,25 @@ import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.parkee_test.parking_pos.cache.ActiveTicketCache;
+import com.parkee_test.parking_pos.cache.CachedTicket;
+import com.parkee_test.parking_pos.datasource.ReplicaStalenessGuard;
 import com.parkee_test.parking_pos.entity.Ticket;
 import com.parkee_test.parking_pos.entity.TicketStatus;
+import com.parkee_test.parking_pos.lot.ActiveVehicleRegistry;
+import com.parkee_test.parking_pos.lot.LotRouting;
+import com.parkee_test.parking_pos.repository.TicketConstraints;
 import com.parkee_test.parking_pos.repository.TicketRepository;
+import com.parkee_test.parking_pos.shift.ShiftEntry;
+import com.parkee_test.parking_pos.shift.ShiftLedger;
 
 import lombok.RequiredArgsConstructor;
 
@@ -19,50 +33,106 @@ public class TicketService {
     private final TicketRepository ticketRepository;
     private final ParkingFeeCalculator parkingFeeCalculator;
     private final Clock clock;
-
-    public CheckInResult checkIn(String plateNumber) {
-        String error = validationPlateNumber(plateNumber);
+    private final ReplicaStalenessGuard replicaStalenessGuard;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LotRouting lotRouting;
+    private final ActiveVehicleRegistry activeVehicles;
+    private final ActiveTicketCache activeTicketCache;
+    private final ShiftLedger shiftLedger;
+
+    @Transactional
+    public CheckInResult checkIn(String lotId, String gateId, String plateNumber) {
+        String error = PlateNumberValidator.validate(plateNumber);
         if (error != null) {
             return CheckInResult.error(error);
         }
 
-        String normalizedPlate = plateNumber.trim().toUpperCase();
+        String lot = lotRouting.resolveLot(lotId);
+        if (!lotRouting.isLocal(lot)) {
+            return CheckInResult.error("Lot is served by another node");
+        }
 
-        Optional<Ticket> existingActive
-                = ticketRepository.findByPlateNumberAndStatus(normalizedPlate, TicketStatus.ACTIVE);
+        String normalizedPlate = PlateNumberValidator.normalize(plateNumber);
 
-        if (existingActive.isPresent()) {
+        if (activeTicketCache.getActive(lot, normalizedPlate).isPresent()
+                || !activeVehicles.claim(lot, normalizedPlate)) {
             return CheckInResult.error("Vehicle already checked in");
         }
+        boolean releaseOnCompletion = releaseClaimOnCompletion(lot, normalizedPlate);
 
-        LocalDateTime now = LocalDateTime.ofInstant(clock.instant(), clock.getZone());
-        Ticket ticket = new Ticket();
-        ticket.setPlateNumber(normalizedPlate);
-        ticket.setCheckInTime(now);
-        ticket.setStatus(TicketStatus.ACTIVE);
+        try {
+            long generation = activeTicketCache.generation(lot);
+            Optional<Ticket> existingActive
+                    = ticketRepository.findByLotIdAndPlateNumberAndStatus(lot, normalizedPlate, TicketStatus.ACTIVE);
 
-        Ticket saved = ticketRepository.save(ticket);
+            if (existingActive.isPresent()) {
+                activeTicketCache.putLoaded(lot, normalizedPlate, existingActive.get(), generation);
+                return CheckInResult.error("Vehicle already checked in");
+            }
 
-        return CheckInResult.ok(saved);
+            LocalDateTime now = LocalDateTime.ofInstant(clock.instant(), clock.getZone());
+            Ticket ticket = new Ticket();
+            ticket.setLotId(lot);
+            ticket.setEntryGate(gateId);
+            ticket.setPlateNumber(normalizedPlate);
+            ticket.setCheckInTime(now);
+            ticket.setStatus(TicketStatus.ACTIVE);
+
+            Ticket saved;
+            try {
+                saved = ticketRepository.save(ticket);
+            } catch (DataIntegrityViolationException ex) {
+                // Another instance, the importer or a direct insert won the race; the partial unique index caught it.
+                if (!TicketConstraints.isActivePlateViolation(ex)) {
+                    throw ex;
+                }
+                if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                    TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+                }
+                return CheckInResult.error("Vehicle already checked in");
+            }
+            replicaStalenessGuard.recordWrite(normalizedPlate);
+            eventPublisher.publishEvent(new TicketChangedEvent(saved));
+
+            return CheckInResult.ok(saved);
+        } finally {
+            if (!releaseOnCompletion) {
+                activeVehicles.release(lot, normalizedPlate);
+            }
+        }
     }
 
-    public CheckOutPreviewResult checkOutPreview(String plateNumber) {
-        String error = validationPlateNumber(plateNumber);
+    @Transactional(readOnly = true)
+    public CheckOutPreviewResult checkOutPreview(String lotId, String plateNumber) {
+        String error = PlateNumberValidator.validate(plateNumber);
         if (error != null) {
             return CheckOutPreviewResult.error(error);
         }
 
-        String normalizedPlate = plateNumber.trim().toUpperCase();
+        String lot = lotRouting.resolveLot(lotId);
+        if (!lotRouting.isLocal(lot)) {
+            return CheckOutPreviewResult.error("Lot is served by another node");
+        }
+
+        String normalizedPlate = PlateNumberValidator.normalize(plateNumber);
+        replicaStalenessGuard.pinIfStale(normalizedPlate);
 
-        Optional<Ticket> existingActive
-                = ticketRepository.findByPlateNumberAndStatus(normalizedPlate, TicketStatus.ACTIVE);
+        Optional<CachedTicket> existingActive = activeTicketCache.getActive(lot, normalizedPlate);
+        if (existingActive.isEmpty()) {
+            long generation = activeTicketCache.generation(lot);
+            Optional<Ticket> loaded
+                    = ticketRepository.findByLotIdAndPlateNumberAndStatus(lot, normalizedPlate, TicketStatus.ACTIVE);
+            existingActive = loaded.flatMap(ticket ->
+                    activeTicketCache.putLoaded(lot, normalizedPlate, ticket, generation));
+        }
 
         if (existingActive.isPresent()) {
-            Ticket ticket = existingActive.get();
+            CachedTicket ticket = existingActive.get();
             LocalDateTime checkOutTime = LocalDateTime.ofInstant(clock.instant(), clock.getZone());
             FeeResult feeResult = parkingFeeCalculator.calculateFee(ticket.getCheckInTime(), checkOutTime);
             if (feeResult.isSuccess()) {
-                return CheckOutPreviewResult.ok(ticket.getId(),
+                return CheckOutPreviewResult.ok(ticket.getTicketId(),
+                        ticket.getLotId(),
                         ticket.getPlateNumber(),
                         ticket.getCheckInTime(),
                         checkOutTime,
@@ -75,24 +145,58 @@ public class TicketService {
         return CheckOutPreviewResult.error("Active ticket not found");
     }
 
-    public ConfirmCheckOutResult confirmCheckOut(Long ticketId) {
-        String error = validationTicket(ticketId);
+    @Transactional
+    public ConfirmCheckOutResult confirmCheckOut(Long ticketId, String gateId, String shiftId, String cashierId) {
+        String error = TicketIdValidator.validate(ticketId);
         if (error != null) {
             return ConfirmCheckOutResult.error(error);
         }
+        if (shiftId != null && shiftId.isBlank()) {
+            return ConfirmCheckOutResult.error("Shift id is required");
+        }
+        if (shiftId != null && (cashierId == null || cashierId.isBlank())) {
+            return ConfirmCheckOutResult.error("Cashier id is required");
+        }
 
-        Optional<Ticket> ticket = ticketRepository.findById(ticketId);
+        // Row lock: a second confirm of the same ticket waits and then sees it COMPLETED instead of charging twice.
+        Optional<Ticket> ticket = ticketRepository.findByIdForUpdate(ticketId);
 
         if (ticket.isPresent()) {
             Ticket ticketExisting = ticket.get();
+            if (!lotRouting.isLocal(ticketExisting.getLotId())) {
+                return ConfirmCheckOutResult.error("Lot is served by another node");
+            }
             if (ticketExisting.getStatus() == TicketStatus.ACTIVE) {
                 LocalDateTime checkOutTime = LocalDateTime.ofInstant(clock.instant(), clock.getZone());
                 FeeResult feeResult = parkingFeeCalculator.calculateFee(ticketExisting.getCheckInTime(), checkOutTime);
                 if (feeResult.isSuccess()) {
+                    ShiftEntry shiftEntry = null;
+                    if (shiftId != null) {
+                        shiftEntry = shiftLedger.enter(shiftId, cashierId);
+                        if (!shiftEntry.isSuccess()) {
+                            return ConfirmCheckOutResult.error(shiftEntry.getError());
+                        }
+                    }
                     ticketExisting.setStatus(TicketStatus.COMPLETED);
                     ticketExisting.setCheckOutTime(checkOutTime);
+                    ticketExisting.setExitGate(gateId);
+                    ticketExisting.setShiftId(shiftId);
+                    ticketExisting.setCashierId(cashierId);
                     ticketExisting.setTotalPrice(feeResult.getFee());
-                    Ticket saved = ticketRepository.save(ticketExisting);
+                    Ticket saved;
+                    try {
+                        saved = ticketRepository.save(ticketExisting);
+                    } catch (RuntimeException ex) {
+                        if (shiftEntry != null) {
+                            shiftEntry.leave();
+                        }
+                        throw ex;
+                    }
+                    if (shiftEntry != null) {
+                        recordShiftPaymentOnCommit(shiftEntry, saved.getTotalPrice());
+                    }
+                    replicaStalenessGuard.recordWrite(saved.getPlateNumber());
+                    eventPublisher.publishEvent(new TicketChangedEvent(saved));
                     return ConfirmCheckOutResult.ok(saved);
                 } else {
                     return ConfirmCheckOutResult.error(feeResult.getError());
@@ -105,17 +209,36 @@ public class TicketService {
         return ConfirmCheckOutResult.error("Ticket not found");
     }
 
-    private String validationPlateNumber(String plateNumber) {
-        if (plateNumber == null || plateNumber.trim().isEmpty()) {
-            return "Plate number is required";
+    private boolean releaseClaimOnCompletion(String lot, String plateNumber) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
         }
-        return null;
+        // Hold the claim until the commit is visible and the invalidation has reached the cache.
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                activeVehicles.release(lot, plateNumber);
+            }
+        });
+        return true;
     }
 
-    private String validationTicket(Long ticket) {
-        if (ticket == null) {
-            return "Ticket id is required";
+    private void recordShiftPaymentOnCommit(ShiftEntry shiftEntry, int amount) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            shiftEntry.record(amount);
+            shiftEntry.leave();
+            return;
         }
-        return null;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                shiftEntry.record(amount);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                shiftEntry.leave();
+            }
+        });
     }
 }
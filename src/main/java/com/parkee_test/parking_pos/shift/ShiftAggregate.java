@@ -0,0 +1,38 @@
+package com.parkee_test.parking_pos.shift;
+
+import java.util.Objects;
+
+import lombok.Getter;
+
+@Getter
+public class ShiftAggregate {
+
+    private final long ticketCount;
+    private final long totalAmount;
+    private final Integer minAmount;
+    private final Integer maxAmount;
+
+    public ShiftAggregate(Long ticketCount, Long totalAmount, Integer minAmount, Integer maxAmount) {
+        this.ticketCount = ticketCount == null ? 0 : ticketCount;
+        this.totalAmount = totalAmount == null ? 0 : totalAmount;
+        this.minAmount = minAmount;
+        this.maxAmount = maxAmount;
+    }
+
+    public static ShiftAggregate empty() {
+        return new ShiftAggregate(0L, 0L, null, null);
+    }
+
+    public ShiftAggregate plus(int amount) {
+        return new ShiftAggregate(ticketCount + 1, totalAmount + amount,
+                minAmount == null ? amount : Math.min(minAmount, amount),
+                maxAmount == null ? amount : Math.max(maxAmount, amount));
+    }
+
+    public boolean matches(ShiftAggregate other) {
+        return ticketCount == other.ticketCount
+                && totalAmount == other.totalAmount
+                && Objects.equals(minAmount, other.minAmount)
+                && Objects.equals(maxAmount, other.maxAmount);
+    }
+}
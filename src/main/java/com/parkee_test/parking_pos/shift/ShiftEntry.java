@@ -0,0 +1,33 @@
+package com.parkee_test.parking_pos.shift;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// A payment admitted to a shift. Record and leave go to the totals it entered, even if the ledger has since
+// evicted them and loaded a fresh copy.
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ShiftEntry {
+
+    private final boolean success;
+    @Getter(AccessLevel.NONE)
+    private final ShiftTotals totals;
+    private final String error;
+
+    static ShiftEntry ok(ShiftTotals totals) {
+        return new ShiftEntry(true, totals, null);
+    }
+
+    static ShiftEntry error(String message) {
+        return new ShiftEntry(false, null, message);
+    }
+
+    public void record(int amount) {
+        totals.record(amount);
+    }
+
+    public void leave() {
+        totals.leave();
+    }
+}
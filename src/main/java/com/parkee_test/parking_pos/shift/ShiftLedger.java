@@ -0,0 +1,84 @@
+package com.parkee_test.parking_pos.shift;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+public class ShiftLedger {
+
+    private final Map<String, ShiftTotals> shifts = new ConcurrentHashMap<>();
+    private final Function<String, ShiftTotals> loader;
+    private final Predicate<String> closedElsewhere;
+    private final long closedCheckIntervalNanos;
+    private final Function<String, ShiftAggregate> recount;
+    private final long closeTimeoutMillis;
+
+    public ShiftLedger(Function<String, ShiftTotals> loader, long closeTimeoutMillis) {
+        this(loader, shiftId -> false, 0, null, closeTimeoutMillis);
+    }
+
+    // The loader seeds a shift this node has not seen yet (e.g. after a restart) from the database.
+    // closedElsewhere reports a shift another node has closed; it is asked at most once per closedCheckIntervalMillis
+    // for each shift still open here, not on every entry.
+    // recount totals a shift from the database at close. Pass null only when this node is the sole writer of
+    // shift payments, so the running totals are complete.
+    public ShiftLedger(Function<String, ShiftTotals> loader, Predicate<String> closedElsewhere,
+            long closedCheckIntervalMillis, Function<String, ShiftAggregate> recount, long closeTimeoutMillis) {
+        this.loader = loader;
+        this.closedElsewhere = closedElsewhere;
+        this.closedCheckIntervalNanos = TimeUnit.MILLISECONDS.toNanos(closedCheckIntervalMillis);
+        this.recount = recount;
+        this.closeTimeoutMillis = closeTimeoutMillis;
+    }
+
+    public static ShiftTotals openTotals(String cashierId, ShiftAggregate seed) {
+        return new ShiftTotals(cashierId, seed, false);
+    }
+
+    public static ShiftTotals closedTotals(String cashierId, ShiftAggregate seed) {
+        return new ShiftTotals(cashierId, seed, true);
+    }
+
+    public ShiftEntry enter(String shiftId, String cashierId) {
+        ShiftTotals totals = totals(shiftId);
+        String error = totals.enter(cashierId);
+        if (error != null) {
+            return ShiftEntry.error(error);
+        }
+        if (totals.claimClosedCheck(System.nanoTime(), closedCheckIntervalNanos) && closedElsewhere.test(shiftId)) {
+            totals.markClosed();
+            totals.leave();
+            return ShiftEntry.error("Shift is closed");
+        }
+        return ShiftEntry.ok(totals);
+    }
+
+    // Waits for this node's in-flight payments either way, so a recount sees them committed.
+    public ShiftAggregate close(String shiftId) {
+        ShiftAggregate running = totals(shiftId).close(closeTimeoutMillis);
+        return recount == null ? running : recount.apply(shiftId);
+    }
+
+    public ShiftAggregate snapshot(String shiftId) {
+        return totals(shiftId).snapshot();
+    }
+
+    public String cashierOf(String shiftId) {
+        return totals(shiftId).getCashierId();
+    }
+
+    public boolean isClosed(String shiftId) {
+        return totals(shiftId).isClosed();
+    }
+
+    // Call once the closing summary is stored; a later lookup reloads the shift as closed.
+    public void evict(String shiftId) {
+        shifts.remove(shiftId);
+    }
+
+    private ShiftTotals totals(String shiftId) {
+        return shifts.computeIfAbsent(shiftId, loader);
+    }
+}
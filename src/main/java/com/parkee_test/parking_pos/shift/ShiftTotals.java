@@ -0,0 +1,96 @@
+package com.parkee_test.parking_pos.shift;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// Striped adders/accumulators: concurrent confirms of one shift never contend on a single counter.
+public class ShiftTotals {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicReference<String> cashierId;
+    // The loader has just read shift_summaries, so the first check is due one interval after loading.
+    private final AtomicLong closedCheckedAt = new AtomicLong(System.nanoTime());
+    private volatile boolean closed;
+
+    ShiftTotals(String cashierId, ShiftAggregate seed, boolean closed) {
+        this.cashierId = new AtomicReference<>(cashierId);
+        this.closed = closed;
+        count.add(seed.getTicketCount());
+        sum.add(seed.getTotalAmount());
+        if (seed.getMinAmount() != null) {
+            min.accumulate(seed.getMinAmount());
+        }
+        if (seed.getMaxAmount() != null) {
+            max.accumulate(seed.getMaxAmount());
+        }
+    }
+
+    String enter(String cashier) {
+        inFlight.incrementAndGet();
+        if (closed) {
+            inFlight.decrementAndGet();
+            return "Shift is closed";
+        }
+        cashierId.compareAndSet(null, cashier);
+        if (!cashierId.get().equals(cashier)) {
+            inFlight.decrementAndGet();
+            return "Shift is assigned to another cashier";
+        }
+        return null;
+    }
+
+    void record(int amount) {
+        count.increment();
+        sum.add(amount);
+        min.accumulate(amount);
+        max.accumulate(amount);
+    }
+
+    void leave() {
+        inFlight.decrementAndGet();
+    }
+
+    // Only the caller that wins the claim queries the database; the others rely on the last answer.
+    boolean claimClosedCheck(long now, long intervalNanos) {
+        long last = closedCheckedAt.get();
+        return now - last >= intervalNanos && closedCheckedAt.compareAndSet(last, now);
+    }
+
+    void markClosed() {
+        closed = true;
+    }
+
+    // Payments that passed enter() before the close still land in this snapshot, up to the timeout.
+    ShiftAggregate close(long timeoutMillis) {
+        closed = true;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+        return snapshot();
+    }
+
+    ShiftAggregate snapshot() {
+        long tickets = count.sum();
+        return new ShiftAggregate(tickets, sum.sum(),
+                tickets == 0 ? null : (int) min.get(),
+                tickets == 0 ? null : (int) max.get());
+    }
+
+    String getCashierId() {
+        return cashierId.get();
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+}
@@ -0,0 +1,10 @@
+package com.parkee_test.parking_pos.simulation;
+
+import java.time.LocalDateTime;
+
+public interface CompletedTicketSource {
+
+    IdRange idRange(LocalDateTime from, LocalDateTime to);
+
+    void scan(LocalDateTime from, LocalDateTime to, long fromId, long toIdExclusive, TicketRowHandler handler);
+}
@@ -0,0 +1,35 @@
+package com.parkee_test.parking_pos.simulation;
+
+public class HourlyTariff implements TariffFunction {
+
+    private static final long HOURS_PER_DAY = 24;
+
+    private final int firstHourFee;
+    private final int nextHourFee;
+    private final int dailyCap;
+
+    public HourlyTariff(int firstHourFee, int nextHourFee, int dailyCap) {
+        this.firstHourFee = firstHourFee;
+        this.nextHourFee = nextHourFee;
+        this.dailyCap = dailyCap;
+    }
+
+    @Override
+    public int price(long checkInEpochSecond, long checkOutEpochSecond) {
+        if (checkOutEpochSecond < checkInEpochSecond) {
+            return INVALID;
+        }
+        long minutes = (checkOutEpochSecond - checkInEpochSecond) / 60;
+        long hours = Math.max(1, (minutes + 59) / 60);
+        long fullDays = hours / HOURS_PER_DAY;
+        long remainingHours = hours % HOURS_PER_DAY;
+
+        long fee = fullDays * blockFee(HOURS_PER_DAY) + (remainingHours > 0 ? blockFee(remainingHours) : 0);
+        return (int) Math.min(Integer.MAX_VALUE, fee);
+    }
+
+    private long blockFee(long hours) {
+        long fee = firstHourFee + (hours - 1) * nextHourFee;
+        return dailyCap > 0 ? Math.min(dailyCap, fee) : fee;
+    }
+}
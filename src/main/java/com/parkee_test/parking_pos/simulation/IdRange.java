@@ -0,0 +1,16 @@
+package com.parkee_test.parking_pos.simulation;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class IdRange {
+
+    private final long minId;
+    private final long maxId;
+
+    public boolean isEmpty() {
+        return maxId < minId;
+    }
+}
@@ -0,0 +1,50 @@
+package com.parkee_test.parking_pos.simulation;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class JdbcCompletedTicketSource implements CompletedTicketSource {
+
+    private static final String SELECT_ID_RANGE = """
+            SELECT MIN(id), MAX(id) FROM tickets
+            WHERE status = 'COMPLETED' AND check_out_time >= ? AND check_out_time < ?
+            """;
+
+    private static final String SELECT_COMPLETED = """
+            SELECT check_in_time, check_out_time, total_price FROM tickets
+            WHERE status = 'COMPLETED' AND id >= ? AND id < ? AND check_out_time >= ? AND check_out_time < ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public JdbcCompletedTicketSource(JdbcTemplate jdbcTemplate, TransactionTemplate readOnlyTransaction) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = readOnlyTransaction;
+    }
+
+    @Override
+    public IdRange idRange(LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.queryForObject(SELECT_ID_RANGE, (rs, rowNum) -> {
+            long minId = rs.getLong(1);
+            if (rs.wasNull()) {
+                return new IdRange(0, -1);
+            }
+            return new IdRange(minId, rs.getLong(2));
+        }, from, to);
+    }
+
+    @Override
+    public void scan(LocalDateTime from, LocalDateTime to, long fromId, long toIdExclusive, TicketRowHandler handler) {
+        readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(SELECT_COMPLETED,
+                (RowCallbackHandler) rs -> handler.accept(
+                        rs.getObject(1, LocalDateTime.class).toEpochSecond(ZoneOffset.UTC),
+                        rs.getObject(2, LocalDateTime.class).toEpochSecond(ZoneOffset.UTC),
+                        rs.getInt(3)),
+                fromId, toIdExclusive, from, to));
+    }
+}
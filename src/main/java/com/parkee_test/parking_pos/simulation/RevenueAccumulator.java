@@ -0,0 +1,67 @@
+package com.parkee_test.parking_pos.simulation;
+
+public class RevenueAccumulator implements TicketRowHandler {
+
+    static final long[] DURATION_BUCKET_UPPER_MINUTES = {60, 120, 180, 360, 720, 1440};
+    static final String[] DURATION_BUCKET_LABELS = {"<=1h", "1-2h", "2-3h", "3-6h", "6-12h", "12-24h", ">24h"};
+    static final int HOURS = 24;
+
+    private final TariffFunction candidate;
+
+    final long[] countByHour = new long[HOURS];
+    final long[] currentByHour = new long[HOURS];
+    final long[] candidateByHour = new long[HOURS];
+    final long[] countByDuration = new long[DURATION_BUCKET_LABELS.length];
+    final long[] currentByDuration = new long[DURATION_BUCKET_LABELS.length];
+    final long[] candidateByDuration = new long[DURATION_BUCKET_LABELS.length];
+    long skipped;
+
+    public RevenueAccumulator(TariffFunction candidate) {
+        this.candidate = candidate;
+    }
+
+    @Override
+    public void accept(long checkInEpochSecond, long checkOutEpochSecond, int totalPrice) {
+        int candidatePrice = candidate.price(checkInEpochSecond, checkOutEpochSecond);
+        if (candidatePrice == TariffFunction.INVALID) {
+            skipped++;
+            return;
+        }
+
+        int hour = (int) Math.floorMod(checkOutEpochSecond / 3600, HOURS);
+        countByHour[hour]++;
+        currentByHour[hour] += totalPrice;
+        candidateByHour[hour] += candidatePrice;
+
+        int bucket = durationBucket((checkOutEpochSecond - checkInEpochSecond) / 60);
+        countByDuration[bucket]++;
+        currentByDuration[bucket] += totalPrice;
+        candidateByDuration[bucket] += candidatePrice;
+    }
+
+    public RevenueAccumulator merge(RevenueAccumulator other) {
+        add(countByHour, other.countByHour);
+        add(currentByHour, other.currentByHour);
+        add(candidateByHour, other.candidateByHour);
+        add(countByDuration, other.countByDuration);
+        add(currentByDuration, other.currentByDuration);
+        add(candidateByDuration, other.candidateByDuration);
+        skipped += other.skipped;
+        return this;
+    }
+
+    private static int durationBucket(long minutes) {
+        for (int i = 0; i < DURATION_BUCKET_UPPER_MINUTES.length; i++) {
+            if (minutes <= DURATION_BUCKET_UPPER_MINUTES[i]) {
+                return i;
+            }
+        }
+        return DURATION_BUCKET_UPPER_MINUTES.length;
+    }
+
+    private static void add(long[] target, long[] source) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] += source[i];
+        }
+    }
+}
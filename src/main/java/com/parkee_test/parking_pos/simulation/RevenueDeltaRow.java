@@ -0,0 +1,18 @@
+package com.parkee_test.parking_pos.simulation;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RevenueDeltaRow {
+
+    private final String label;
+    private final long tickets;
+    private final long currentRevenue;
+    private final long candidateRevenue;
+
+    public long getDelta() {
+        return candidateRevenue - currentRevenue;
+    }
+}
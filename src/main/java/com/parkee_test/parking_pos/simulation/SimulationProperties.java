@@ -0,0 +1,18 @@
+package com.parkee_test.parking_pos.simulation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "parking.simulation")
+public class SimulationProperties {
+
+    // 0 means one task per core, before the connection caps below.
+    private int parallelism = 0;
+    private int maxConnections = 3;
+    private long chunkSize = 100_000;
+    private int fetchSize = 5_000;
+}
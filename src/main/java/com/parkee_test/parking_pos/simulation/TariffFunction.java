@@ -0,0 +1,9 @@
+package com.parkee_test.parking_pos.simulation;
+
+@FunctionalInterface
+public interface TariffFunction {
+
+    int INVALID = -1;
+
+    int price(long checkInEpochSecond, long checkOutEpochSecond);
+}
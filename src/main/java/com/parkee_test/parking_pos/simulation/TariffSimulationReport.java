@@ -0,0 +1,47 @@
+package com.parkee_test.parking_pos.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TariffSimulationReport {
+
+    private final long tickets;
+    private final long skipped;
+    private final long currentRevenue;
+    private final long candidateRevenue;
+    private final List<RevenueDeltaRow> byCheckOutHour;
+    private final List<RevenueDeltaRow> byDuration;
+    private final long elapsedMillis;
+
+    public long getDelta() {
+        return candidateRevenue - currentRevenue;
+    }
+
+    static TariffSimulationReport from(RevenueAccumulator accumulator, long elapsedMillis) {
+        List<RevenueDeltaRow> byHour = new ArrayList<>(RevenueAccumulator.HOURS);
+        long tickets = 0;
+        long current = 0;
+        long candidate = 0;
+        for (int hour = 0; hour < RevenueAccumulator.HOURS; hour++) {
+            byHour.add(new RevenueDeltaRow(String.format("%02d:00", hour), accumulator.countByHour[hour],
+                    accumulator.currentByHour[hour], accumulator.candidateByHour[hour]));
+            tickets += accumulator.countByHour[hour];
+            current += accumulator.currentByHour[hour];
+            candidate += accumulator.candidateByHour[hour];
+        }
+
+        List<RevenueDeltaRow> byDuration = new ArrayList<>(RevenueAccumulator.DURATION_BUCKET_LABELS.length);
+        for (int bucket = 0; bucket < RevenueAccumulator.DURATION_BUCKET_LABELS.length; bucket++) {
+            byDuration.add(new RevenueDeltaRow(RevenueAccumulator.DURATION_BUCKET_LABELS[bucket],
+                    accumulator.countByDuration[bucket], accumulator.currentByDuration[bucket],
+                    accumulator.candidateByDuration[bucket]));
+        }
+
+        return new TariffSimulationReport(tickets, accumulator.skipped, current, candidate, byHour, byDuration, elapsedMillis);
+    }
+}
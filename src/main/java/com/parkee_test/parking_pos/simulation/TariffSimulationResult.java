@@ -0,0 +1,21 @@
+package com.parkee_test.parking_pos.simulation;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TariffSimulationResult {
+
+    private final boolean success;
+    private final TariffSimulationReport report;
+    private final String error;
+
+    public static TariffSimulationResult ok(TariffSimulationReport report) {
+        return new TariffSimulationResult(true, report, null);
+    }
+
+    public static TariffSimulationResult error(String message) {
+        return new TariffSimulationResult(false, null, message);
+    }
+}
@@ -0,0 +1,52 @@
+package com.parkee_test.parking_pos.simulation;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import org.springframework.stereotype.Service;
+
+import com.parkee_test.parking_pos.service.FeeResult;
+import com.parkee_test.parking_pos.service.ParkingFeeCalculator;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Service
+public class TariffSimulationService {
+
+    private final ParkingFeeCalculator parkingFeeCalculator;
+    private final TariffSimulator tariffSimulator;
+
+    public TariffSimulationResult simulate(LocalDateTime from, LocalDateTime to,
+            Integer firstHourFee, Integer nextHourFee, Integer dailyCap) {
+        if (from == null || to == null) {
+            return TariffSimulationResult.error("Simulation period is required");
+        }
+        if (!to.isAfter(from)) {
+            return TariffSimulationResult.error("Simulation end must be after start");
+        }
+
+        TariffFunction candidate;
+        if (firstHourFee == null) {
+            candidate = currentTariff();
+        } else {
+            int next = nextHourFee == null ? firstHourFee : nextHourFee;
+            int cap = dailyCap == null ? 0 : dailyCap;
+            if (firstHourFee < 0 || next < 0 || cap < 0) {
+                return TariffSimulationResult.error("Tariff fees cannot be negative");
+            }
+            candidate = new HourlyTariff(firstHourFee, next, cap);
+        }
+
+        return TariffSimulationResult.ok(tariffSimulator.simulate(from, to, candidate));
+    }
+
+    private TariffFunction currentTariff() {
+        return (checkIn, checkOut) -> {
+            FeeResult feeResult = parkingFeeCalculator.calculateFee(
+                    LocalDateTime.ofEpochSecond(checkIn, 0, ZoneOffset.UTC),
+                    LocalDateTime.ofEpochSecond(checkOut, 0, ZoneOffset.UTC));
+            return feeResult.isSuccess() ? feeResult.getFee() : TariffFunction.INVALID;
+        };
+    }
+}
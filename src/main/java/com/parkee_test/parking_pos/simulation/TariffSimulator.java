@@ -0,0 +1,77 @@
+package com.parkee_test.parking_pos.simulation;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.Semaphore;
+
+// One pool and one set of scan permits for every simulation, so concurrent requests together never hold more
+// than parallelism connections.
+public class TariffSimulator implements AutoCloseable {
+
+    private final CompletedTicketSource source;
+    private final long chunkSize;
+    private final ForkJoinPool pool;
+    // The pool may add compensation threads while a task waits in join(); the permits still bound open scans.
+    private final Semaphore scans;
+
+    public TariffSimulator(CompletedTicketSource source, int parallelism, long chunkSize) {
+        this.source = source;
+        this.chunkSize = chunkSize;
+        this.pool = new ForkJoinPool(parallelism);
+        this.scans = new Semaphore(parallelism);
+    }
+
+    public TariffSimulationReport simulate(LocalDateTime from, LocalDateTime to, TariffFunction candidate) {
+        long start = System.nanoTime();
+        IdRange range = source.idRange(from, to);
+        RevenueAccumulator total;
+        if (range.isEmpty()) {
+            total = new RevenueAccumulator(candidate);
+        } else {
+            total = pool.invoke(new ScanTask(from, to, candidate, range.getMinId(), range.getMaxId() + 1));
+        }
+        return TariffSimulationReport.from(total, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    private class ScanTask extends RecursiveTask<RevenueAccumulator> {
+
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+        private final TariffFunction candidate;
+        private final long fromId;
+        private final long toIdExclusive;
+
+        ScanTask(LocalDateTime from, LocalDateTime to, TariffFunction candidate, long fromId, long toIdExclusive) {
+            this.from = from;
+            this.to = to;
+            this.candidate = candidate;
+            this.fromId = fromId;
+            this.toIdExclusive = toIdExclusive;
+        }
+
+        @Override
+        protected RevenueAccumulator compute() {
+            if (toIdExclusive - fromId <= chunkSize) {
+                RevenueAccumulator accumulator = new RevenueAccumulator(candidate);
+                scans.acquireUninterruptibly();
+                try {
+                    source.scan(from, to, fromId, toIdExclusive, accumulator);
+                } finally {
+                    scans.release();
+                }
+                return accumulator;
+            }
+            long middle = fromId + (toIdExclusive - fromId) / 2;
+            ScanTask left = new ScanTask(from, to, candidate, fromId, middle);
+            ScanTask right = new ScanTask(from, to, candidate, middle, toIdExclusive);
+            left.fork();
+            return right.compute().merge(left.join());
+        }
+    }
+}
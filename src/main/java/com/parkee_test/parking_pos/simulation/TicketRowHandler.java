@@ -0,0 +1,7 @@
+package com.parkee_test.parking_pos.simulation;
+
+@FunctionalInterface
+public interface TicketRowHandler {
+
+    void accept(long checkInEpochSecond, long checkOutEpochSecond, int totalPrice);
+}
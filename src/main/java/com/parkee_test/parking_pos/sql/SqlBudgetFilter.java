@@ -0,0 +1,63 @@
+package com.parkee_test.parking_pos.sql;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    private final SqlStatementRecorder recorder;
+    private final Map<String, Integer> budgets;
+    private final int repeatThreshold;
+    private final MeterRegistry meterRegistry;
+
+    public SqlBudgetFilter(SqlStatementRecorder recorder, SqlMonitoringProperties properties,
+            MeterRegistry meterRegistry) {
+        this.recorder = recorder;
+        this.budgets = Map.copyOf(properties.getBudgets());
+        this.repeatThreshold = properties.getRepeatThreshold();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !budgets.containsKey(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String endpoint = request.getRequestURI();
+        SqlRequestStats stats = recorder.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            recorder.end();
+            report(endpoint, stats);
+        }
+    }
+
+    private void report(String endpoint, SqlRequestStats stats) {
+        meterRegistry.summary("parking.sql.statements", "endpoint", endpoint).record(stats.getStatementCount());
+
+        int budget = budgets.get(endpoint);
+        if (stats.getStatementCount() > budget) {
+            meterRegistry.counter("parking.sql.budget.exceeded", "endpoint", endpoint).increment();
+            log.warn("{} ran {} SQL statements, budget is {}: {}", endpoint, stats.getStatementCount(), budget,
+                    stats.getExecutions());
+        }
+        Map<String, Integer> repeated = stats.repeatedStatements(repeatThreshold);
+        if (!repeated.isEmpty()) {
+            log.warn("{} repeated SQL statements, possible N+1: {}", endpoint, repeated);
+        }
+    }
+}
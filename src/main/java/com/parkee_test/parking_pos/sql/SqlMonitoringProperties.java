@@ -0,0 +1,25 @@
+package com.parkee_test.parking_pos.sql;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "parking.sql")
+public class SqlMonitoringProperties {
+
+    private boolean enabled = true;
+    private Duration slowThreshold = Duration.ofMillis(200);
+    private double slowSampleRate = 0.1;
+    private int repeatThreshold = 3;
+    private Map<String, Integer> budgets = new LinkedHashMap<>(Map.of(
+            "/api/checkin", 2,
+            "/api/checkout/preview", 1,
+            "/api/checkout/confirm", 3));
+}
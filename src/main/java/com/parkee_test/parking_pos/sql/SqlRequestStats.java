@@ -0,0 +1,28 @@
+package com.parkee_test.parking_pos.sql;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import lombok.Getter;
+
+@Getter
+public class SqlRequestStats {
+
+    private int statementCount;
+    private long elapsedNanos;
+    private final Map<String, Integer> executions = new LinkedHashMap<>();
+
+    void record(String sql, long nanos) {
+        statementCount++;
+        elapsedNanos += nanos;
+        executions.merge(sql, 1, Integer::sum);
+    }
+
+    // The same statement text several times in one request is the usual shape of an N+1 access pattern.
+    public Map<String, Integer> repeatedStatements(int threshold) {
+        return executions.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+}
@@ -0,0 +1,53 @@
+package com.parkee_test.parking_pos.sql;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class SqlStatementRecorder {
+
+    // Statements starting with this comment are infrastructure (e.g. cache invalidation) and not charged to the request.
+    public static final String UNTRACKED = "/* untracked */ ";
+
+    private final ThreadLocal<SqlRequestStats> current = new ThreadLocal<>();
+    private final long slowThresholdNanos;
+    private final double slowSampleRate;
+
+    public SqlStatementRecorder(Duration slowThreshold, double slowSampleRate) {
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.slowSampleRate = slowSampleRate;
+    }
+
+    public SqlRequestStats begin() {
+        SqlRequestStats stats = new SqlRequestStats();
+        current.set(stats);
+        return stats;
+    }
+
+    public void end() {
+        current.remove();
+    }
+
+    public SqlRequestStats capture(Runnable work) {
+        SqlRequestStats stats = begin();
+        try {
+            work.run();
+        } finally {
+            end();
+        }
+        return stats;
+    }
+
+    void record(String sql, long elapsedNanos) {
+        SqlRequestStats stats = current.get();
+        if (stats != null && !sql.startsWith(UNTRACKED)) {
+            stats.record(sql, elapsedNanos);
+        }
+        if (elapsedNanos >= slowThresholdNanos && ThreadLocalRandom.current().nextDouble() < slowSampleRate) {
+            log.warn("Slow SQL ({} ms): {}", TimeUnit.NANOSECONDS.toMillis(elapsedNanos), sql);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.parkee_test.parking_pos.startup;
+
+import java.util.List;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.parkee_test.parking_pos.repository.TicketConstraints;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// ddl-auto cannot express a partial index, so a schema that never had db/ddl.sql applied would run without the
+// one-ACTIVE-ticket guarantee. Runs after Hibernate has created or updated the tickets table.
+@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Component
+public class ActivePlateIndexCheck implements ApplicationRunner {
+
+    static final String CREATE_INDEX = "CREATE UNIQUE INDEX IF NOT EXISTS " + TicketConstraints.ACTIVE_PLATE_INDEX
+            + " ON tickets (lot_id, plate_number) WHERE status = 'ACTIVE' AND origin_node IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        String database = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if ("PostgreSQL".equals(database)) {
+            ensureIndex();
+        }
+    }
+
+    void ensureIndex() {
+        List<String> definitions = jdbcTemplate.queryForList(
+                "SELECT indexdef FROM pg_indexes WHERE tablename = 'tickets' AND indexname = ?", String.class,
+                TicketConstraints.ACTIVE_PLATE_INDEX);
+        if (!definitions.isEmpty()) {
+            if (!definitions.get(0).contains(" WHERE ")) {
+                throw new IllegalStateException(TicketConstraints.ACTIVE_PLATE_INDEX + " is not partial and would "
+                        + "block every repeat visit: " + definitions.get(0) + ". Drop it and restart.");
+            }
+            return;
+        }
+
+        log.warn("{} is missing, creating it. Apply db/ddl.sql to bring the rest of the schema up to date.",
+                TicketConstraints.ACTIVE_PLATE_INDEX);
+        try {
+            jdbcTemplate.execute(CREATE_INDEX);
+        } catch (DataAccessException ex) {
+            throw new IllegalStateException("Cannot create " + TicketConstraints.ACTIVE_PLATE_INDEX
+                    + "; a plate may be ACTIVE more than once in a lot. Complete the duplicates and restart.", ex);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.parkee_test.parking_pos.startup;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.parkee_test.parking_pos.controller.TicketController;
+import com.parkee_test.parking_pos.entity.TicketStatus;
+import com.parkee_test.parking_pos.lot.LotRouting;
+import com.parkee_test.parking_pos.repository.TicketRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Lazy(false)
+@Profile("kiosk")
+@RequiredArgsConstructor
+@Component
+public class CheckInPathPrewarmer implements SmartInitializingSingleton {
+
+    private static final String PREWARM_PLATE = "__PREWARM__";
+
+    private final ObjectProvider<TicketController> ticketController;
+    private final ObjectProvider<TicketRepository> ticketRepository;
+    private final ObjectProvider<ObjectMapper> objectMapper;
+    private final ObjectProvider<LotRouting> lotRouting;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.nanoTime();
+        ticketController.getObject();
+        objectMapper.getObject();
+        ticketRepository.getObject().findByLotIdAndPlateNumberAndStatus(lotRouting.getObject().resolveLot(null),
+                PREWARM_PLATE, TicketStatus.ACTIVE);
+        log.info("Check-in path pre-warmed in {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+}
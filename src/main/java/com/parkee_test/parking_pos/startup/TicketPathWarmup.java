@@ -0,0 +1,149 @@
+package com.parkee_test.parking_pos.startup;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.parkee_test.parking_pos.dto.CheckInRequest;
+import com.parkee_test.parking_pos.dto.CheckInResponse;
+import com.parkee_test.parking_pos.dto.CheckOutPreviewRequest;
+import com.parkee_test.parking_pos.dto.CheckOutPreviewResponse;
+import com.parkee_test.parking_pos.dto.ConfirmCheckOutRequest;
+import com.parkee_test.parking_pos.dto.ConfirmCheckOutResponse;
+import com.parkee_test.parking_pos.entity.TicketStatus;
+import com.parkee_test.parking_pos.repository.TicketRepository;
+import com.parkee_test.parking_pos.service.ParkingFeeCalculator;
+import com.parkee_test.parking_pos.service.TicketService;
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@EnableConfigurationProperties(WarmupProperties.class)
+@ConditionalOnProperty(prefix = "parking.warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TicketPathWarmup implements ApplicationRunner {
+
+    private static final String WARMUP_PLATE = "__WARMUP__";
+    private static final String WARMUP_LOT = "__WARMUP__";
+    private static final long WARMUP_TICKET_ID = -1L;
+
+    private final ParkingFeeCalculator parkingFeeCalculator;
+    private final TicketRepository ticketRepository;
+    private final TicketService ticketService;
+    private final ObjectMapper objectMapper;
+    private final DataSource dataSource;
+    private final ApplicationEventPublisher eventPublisher;
+    private final WarmupProperties properties;
+
+    @Getter
+    private volatile WarmupReport report;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        report = warmUp();
+        log.info("Warm-up finished in {} ms (fee {} ms, queries {} ms, json {} ms, pool {} ms with {} connections)",
+                report.getTotalMillis(), report.getFeeCalculatorMillis(), report.getQueryMillis(),
+                report.getSerializationMillis(), report.getConnectionPoolMillis(), report.getPrefilledConnections());
+    }
+
+    public WarmupReport warmUp() throws SQLException, JsonProcessingException {
+        long start = System.nanoTime();
+        int prefilled = prefillConnectionPool();
+        long poolMillis = elapsedMillis(start);
+
+        start = System.nanoTime();
+        warmUpFeeCalculator();
+        long feeMillis = elapsedMillis(start);
+
+        start = System.nanoTime();
+        warmUpQueries();
+        long queryMillis = elapsedMillis(start);
+
+        start = System.nanoTime();
+        warmUpSerialization();
+        long serializationMillis = elapsedMillis(start);
+
+        return new WarmupReport(feeMillis, queryMillis, serializationMillis, poolMillis, prefilled);
+    }
+
+    private int prefillConnectionPool() throws SQLException {
+        if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+            return 0;
+        }
+        HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+        List<Connection> held = new ArrayList<>();
+        try {
+            while (held.size() < pool.getMinimumIdle()) {
+                held.add(pool.getConnection());
+            }
+        } finally {
+            for (Connection connection : held) {
+                connection.close();
+            }
+        }
+        return held.size();
+    }
+
+    private void warmUpFeeCalculator() {
+        LocalDateTime checkIn = LocalDateTime.of(2025, 1, 1, 0, 0);
+        long checksum = 0;
+        for (int i = 0; i < properties.getFeeIterations(); i++) {
+            checksum += parkingFeeCalculator.calculateFee(checkIn, checkIn.plusMinutes(i % 1440)).getFee();
+        }
+        log.debug("Fee warm-up checksum {}", checksum);
+    }
+
+    private void warmUpQueries() {
+        for (int i = 0; i < properties.getQueryIterations(); i++) {
+            ticketRepository.findByLotIdAndPlateNumberAndStatus(WARMUP_LOT, WARMUP_PLATE, TicketStatus.ACTIVE);
+            ticketRepository.findById(WARMUP_TICKET_ID);
+            ticketService.checkOutPreview(WARMUP_LOT, WARMUP_PLATE);
+        }
+    }
+
+    private void warmUpSerialization() throws JsonProcessingException {
+        LocalDateTime checkIn = LocalDateTime.of(2025, 1, 1, 8, 0);
+        LocalDateTime checkOut = checkIn.plusHours(2);
+        CheckInResponse checkInResponse = new CheckInResponse(WARMUP_TICKET_ID, WARMUP_PLATE, checkIn, TicketStatus.ACTIVE,
+                WARMUP_LOT, null);
+        CheckOutPreviewResponse previewResponse = new CheckOutPreviewResponse(WARMUP_TICKET_ID, WARMUP_PLATE, checkIn, checkOut, 6000,
+                WARMUP_LOT);
+        ConfirmCheckOutResponse confirmResponse = new ConfirmCheckOutResponse(WARMUP_TICKET_ID, WARMUP_PLATE, checkIn, checkOut, 6000,
+                TicketStatus.COMPLETED, WARMUP_LOT, null, null);
+        String plateBody = "{\"plateNumber\":\"" + WARMUP_PLATE + "\"}";
+        String ticketBody = "{\"ticketId\":" + WARMUP_TICKET_ID + "}";
+
+        for (int i = 0; i < properties.getSerializationIterations(); i++) {
+            objectMapper.writeValueAsBytes(checkInResponse);
+            objectMapper.writeValueAsBytes(previewResponse);
+            objectMapper.writeValueAsBytes(confirmResponse);
+            objectMapper.readValue(plateBody, CheckInRequest.class);
+            objectMapper.readValue(plateBody, CheckOutPreviewRequest.class);
+            objectMapper.readValue(ticketBody, ConfirmCheckOutRequest.class);
+        }
+    }
+
+    private long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
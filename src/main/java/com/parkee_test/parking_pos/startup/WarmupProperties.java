@@ -0,0 +1,17 @@
+package com.parkee_test.parking_pos.startup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "parking.warmup")
+public class WarmupProperties {
+
+    private boolean enabled = true;
+    private int feeIterations = 20_000;
+    private int queryIterations = 200;
+    private int serializationIterations = 5_000;
+}
@@ -0,0 +1,19 @@
+package com.parkee_test.parking_pos.startup;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class WarmupReport {
+
+    private final long feeCalculatorMillis;
+    private final long queryMillis;
+    private final long serializationMillis;
+    private final long connectionPoolMillis;
+    private final int prefilledConnections;
+
+    public long getTotalMillis() {
+        return feeCalculatorMillis + queryMillis + serializationMillis + connectionPoolMillis;
+    }
+}
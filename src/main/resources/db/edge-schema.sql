@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS ticket_changes (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    ticket_id BIGINT NOT NULL,
+    changed_at TIMESTAMP DEFAULT LOCALTIMESTAMP NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS edge_sync_cursor (
+    id INTEGER PRIMARY KEY,
+    last_change_id BIGINT NOT NULL,
+    synced_at TIMESTAMP
+);
+
+INSERT INTO edge_sync_cursor (id, last_change_id)
+SELECT 1, 0 WHERE NOT EXISTS (SELECT 1 FROM edge_sync_cursor WHERE id = 1);
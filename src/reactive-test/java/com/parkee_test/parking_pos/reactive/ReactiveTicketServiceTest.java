@@ -0,0 +1,104 @@
+package com.parkee_test.parking_pos.reactive;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import com.parkee_test.parking_pos.config.LotConfig;
+import com.parkee_test.parking_pos.config.TimeConfig;
+import com.parkee_test.parking_pos.entity.TicketStatus;
+import com.parkee_test.parking_pos.service.ConfirmCheckOutResult;
+import com.parkee_test.parking_pos.service.ParkingFeeCalculator;
+
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+@DataR2dbcTest
+@Import({ReactiveTicketService.class, ParkingFeeCalculator.class, TimeConfig.class, LotConfig.class})
+public class ReactiveTicketServiceTest {
+
+    @Autowired
+    private ReactiveTicketService ticketService;
+
+    @Autowired
+    private ReactiveTicketRepository ticketRepository;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @BeforeEach
+    void setUp() {
+        for (String statement : List.of(
+                "DROP TABLE IF EXISTS tickets",
+                "DROP TABLE IF EXISTS shift_summaries",
+                """
+                CREATE TABLE tickets (
+                    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, lot_id VARCHAR(50) DEFAULT 'MAIN' NOT NULL,
+                    entry_gate VARCHAR(50), exit_gate VARCHAR(50), shift_id VARCHAR(50), cashier_id VARCHAR(50),
+                    plate_number VARCHAR(50) NOT NULL, check_in_time TIMESTAMP NOT NULL, check_out_time TIMESTAMP,
+                    total_price INTEGER, status VARCHAR(20) NOT NULL, origin_node VARCHAR(100), origin_ticket_id BIGINT,
+                    version BIGINT DEFAULT 0 NOT NULL)
+                """,
+                """
+                CREATE TABLE shift_summaries (
+                    shift_id VARCHAR(50) PRIMARY KEY, cashier_id VARCHAR(50), ticket_count BIGINT NOT NULL,
+                    total_amount BIGINT NOT NULL, min_amount INTEGER, max_amount INTEGER, closed_at TIMESTAMP NOT NULL)
+                """)) {
+            databaseClient.sql(statement).then().block();
+        }
+    }
+
+    @Test
+    void concurrentConfirmsShouldChargeTicketOnce() {
+        Long ticketId = activeTicket("B1XY");
+
+        List<ConfirmCheckOutResult> results = Flux.range(0, 8)
+                .flatMap(attempt -> ticketService.confirmCheckOut(ticketId, "g2", null, null)
+                        .subscribeOn(Schedulers.parallel()))
+                .collectList()
+                .block();
+
+        assertEquals(1, results.stream().filter(ConfirmCheckOutResult::isSuccess).count());
+        assertTrue(results.stream().filter(result -> !result.isSuccess())
+                .allMatch(result -> "Ticket is not active".equals(result.getError())));
+        ReactiveTicket stored = ticketRepository.findById(ticketId).block();
+        assertEquals(TicketStatus.COMPLETED, stored.getStatus());
+        assertEquals(1L, stored.getVersion());
+    }
+
+    @Test
+    void confirmShouldRecordShiftAndHonourClosedShiftAndCashier() {
+        ConfirmCheckOutResult paid = ticketService.confirmCheckOut(activeTicket("B2XY"), "g2", "S-1", "C7").block();
+        assertTrue(paid.isSuccess());
+        assertEquals("S-1", paid.getTicket().getShiftId());
+        assertEquals("C7", paid.getTicket().getCashierId());
+
+        assertEquals("Shift is assigned to another cashier",
+                ticketService.confirmCheckOut(activeTicket("B3XY"), "g2", "S-1", "C8").block().getError());
+        assertEquals("Shift id is required",
+                ticketService.confirmCheckOut(activeTicket("B4XY"), "g2", " ", "C7").block().getError());
+
+        databaseClient.sql("INSERT INTO shift_summaries (shift_id, cashier_id, ticket_count, total_amount, closed_at) "
+                + "VALUES ('S-1', 'C7', 1, 3000, CURRENT_TIMESTAMP)").then().block();
+        Long late = activeTicket("B5XY");
+        assertEquals("Shift is closed", ticketService.confirmCheckOut(late, "g2", "S-1", "C7").block().getError());
+        assertEquals(TicketStatus.ACTIVE, ticketRepository.findById(late).block().getStatus());
+    }
+
+    private Long activeTicket(String plateNumber) {
+        ReactiveTicket ticket = new ReactiveTicket();
+        ticket.setLotId("MAIN");
+        ticket.setPlateNumber(plateNumber);
+        ticket.setCheckInTime(LocalDateTime.now().minusHours(2));
+        ticket.setStatus(TicketStatus.ACTIVE);
+        return ticketRepository.save(ticket).block().getId();
+    }
+}
@@ -0,0 +1,32 @@
+package com.parkee_test.parking_pos.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.context.annotation.Import;
+
+import com.parkee_test.parking_pos.config.LotConfig;
+import com.parkee_test.parking_pos.config.TimeConfig;
+import com.parkee_test.parking_pos.service.ParkingFeeCalculator;
+
+@SpringBootApplication(exclude = {
+    DataSourceAutoConfiguration.class,
+    DataSourceTransactionManagerAutoConfiguration.class,
+    HibernateJpaAutoConfiguration.class,
+    JpaRepositoriesAutoConfiguration.class
+})
+@Import({ParkingFeeCalculator.class, TimeConfig.class, LotConfig.class})
+public class ReactiveParkingPosApplication {
+
+    public static void main(String[] args) {
+        SpringApplication application = new SpringApplication(ReactiveParkingPosApplication.class);
+        application.setWebApplicationType(WebApplicationType.REACTIVE);
+        application.setAdditionalProfiles("reactive");
+        application.run(args);
+    }
+
+}
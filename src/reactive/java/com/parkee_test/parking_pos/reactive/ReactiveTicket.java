@@ -0,0 +1,71 @@
+package com.parkee_test.parking_pos.reactive;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+import com.parkee_test.parking_pos.entity.Ticket;
+import com.parkee_test.parking_pos.entity.TicketStatus;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Table("tickets")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ReactiveTicket {
+
+    @Id
+    private Long id;
+
+    private String lotId;
+
+    private String entryGate;
+
+    private String exitGate;
+
+    private String shiftId;
+
+    private String cashierId;
+
+    private String plateNumber;
+
+    private LocalDateTime checkInTime;
+
+    private LocalDateTime checkOutTime;
+
+    private Integer totalPrice;
+
+    private TicketStatus status;
+
+    private String originNode;
+
+    private Long originTicketId;
+
+    // Shared with the JPA entity's @Version, so the near-cache ordering and optimistic locking see reactive writes.
+    @Version
+    private Long version;
+
+    public Ticket toTicket() {
+        return Ticket.builder()
+                .id(id)
+                .lotId(lotId)
+                .entryGate(entryGate)
+                .exitGate(exitGate)
+                .shiftId(shiftId)
+                .cashierId(cashierId)
+                .plateNumber(plateNumber)
+                .checkInTime(checkInTime)
+                .checkOutTime(checkOutTime)
+                .totalPrice(totalPrice)
+                .status(status)
+                .originNode(originNode)
+                .originTicketId(originTicketId)
+                .version(version == null ? 0 : version)
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.parkee_test.parking_pos.reactive;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.parkee_test.parking_pos.controller.TicketResponses;
+import com.parkee_test.parking_pos.dto.CheckInRequest;
+import com.parkee_test.parking_pos.dto.CheckOutPreviewRequest;
+import com.parkee_test.parking_pos.dto.ConfirmCheckOutRequest;
+
+import lombok.AllArgsConstructor;
+import reactor.core.publisher.Mono;
+
+@AllArgsConstructor
+@RestController
+@RequestMapping("/api")
+public class ReactiveTicketController {
+
+    private final ReactiveTicketService ticketService;
+
+    @PostMapping("/checkin")
+    public Mono<ResponseEntity<?>> checkIn(@RequestBody CheckInRequest checkInRequest) {
+        return ticketService.checkIn(checkInRequest.getLotId(), checkInRequest.getGateId(),
+                checkInRequest.getPlateNumber()).map(TicketResponses::checkIn);
+    }
+
+    @PostMapping("/checkout/preview")
+    public Mono<ResponseEntity<?>> checkOutPreview(@RequestBody CheckOutPreviewRequest checkOutPreviewRequest) {
+        return ticketService.checkOutPreview(checkOutPreviewRequest.getLotId(),
+                checkOutPreviewRequest.getPlateNumber()).map(TicketResponses::checkOutPreview);
+    }
+
+    @PostMapping("/checkout/confirm")
+    public Mono<ResponseEntity<?>> confirmCheckOut(@RequestBody ConfirmCheckOutRequest confirmCheckOutRequest) {
+        return ticketService.confirmCheckOut(confirmCheckOutRequest.getTicketId(),
+                confirmCheckOutRequest.getGateId(), confirmCheckOutRequest.getShiftId(),
+                confirmCheckOutRequest.getCashierId()).map(TicketResponses::confirmCheckOut);
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.parkee_test.parking_pos.reactive;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+import com.parkee_test.parking_pos.entity.TicketStatus;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveTicketRepository extends ReactiveCrudRepository<ReactiveTicket, Long> {
+
+    Mono<ReactiveTicket> findByLotIdAndPlateNumberAndStatus(String lotId, String plateNumber, TicketStatus status);
+
+    // Conditional on ACTIVE: of two concurrent confirms only one updates the row, so the ticket is charged once.
+    @Modifying
+    @Query("""
+            UPDATE tickets SET status = 'COMPLETED', check_out_time = :checkOutTime, exit_gate = :exitGate,
+                total_price = :totalPrice, shift_id = :shiftId, cashier_id = :cashierId, version = version + 1
+            WHERE id = :id AND status = 'ACTIVE'
+            """)
+    Mono<Integer> complete(Long id, LocalDateTime checkOutTime, String exitGate, Integer totalPrice, String shiftId,
+            String cashierId);
+
+    @Query("SELECT EXISTS (SELECT 1 FROM shift_summaries WHERE shift_id = :shiftId)")
+    Mono<Boolean> isShiftClosed(String shiftId);
+
+    @Query("SELECT EXISTS (SELECT 1 FROM tickets WHERE shift_id = :shiftId AND cashier_id <> :cashierId)")
+    Mono<Boolean> isShiftHeldByOtherCashier(String shiftId, String cashierId);
+}
@@ -0,0 +1,153 @@
+package com.parkee_test.parking_pos.reactive;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.parkee_test.parking_pos.entity.TicketStatus;
+import com.parkee_test.parking_pos.lot.LotRouting;
+import com.parkee_test.parking_pos.repository.TicketConstraints;
+import com.parkee_test.parking_pos.service.CheckInResult;
+import com.parkee_test.parking_pos.service.CheckOutPreviewResult;
+import com.parkee_test.parking_pos.service.ConfirmCheckOutResult;
+import com.parkee_test.parking_pos.service.FeeResult;
+import com.parkee_test.parking_pos.service.ParkingFeeCalculator;
+import com.parkee_test.parking_pos.service.PlateNumberValidator;
+import com.parkee_test.parking_pos.service.TicketIdValidator;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+@Service
+public class ReactiveTicketService {
+
+    private final ReactiveTicketRepository ticketRepository;
+    private final ParkingFeeCalculator parkingFeeCalculator;
+    private final Clock clock;
+    private final LotRouting lotRouting;
+
+    @Transactional
+    public Mono<CheckInResult> checkIn(String lotId, String gateId, String plateNumber) {
+        String error = PlateNumberValidator.validate(plateNumber);
+        if (error != null) {
+            return Mono.just(CheckInResult.error(error));
+        }
+
+        String lot = lotRouting.resolveLot(lotId);
+        if (!lotRouting.isLocal(lot)) {
+            return Mono.just(CheckInResult.error("Lot is served by another node"));
+        }
+
+        String normalizedPlate = PlateNumberValidator.normalize(plateNumber);
+
+        return ticketRepository.findByLotIdAndPlateNumberAndStatus(lot, normalizedPlate, TicketStatus.ACTIVE)
+                .map(existing -> CheckInResult.error("Vehicle already checked in"))
+                .switchIfEmpty(Mono.defer(() -> {
+                    ReactiveTicket ticket = new ReactiveTicket();
+                    ticket.setLotId(lot);
+                    ticket.setEntryGate(gateId);
+                    ticket.setPlateNumber(normalizedPlate);
+                    ticket.setCheckInTime(now());
+                    ticket.setStatus(TicketStatus.ACTIVE);
+                    return ticketRepository.save(ticket).map(saved -> CheckInResult.ok(saved.toTicket()));
+                }))
+                .onErrorResume(DataIntegrityViolationException.class, ex -> TicketConstraints.isActivePlateViolation(ex)
+                        ? Mono.just(CheckInResult.error("Vehicle already checked in"))
+                        : Mono.error(ex));
+    }
+
+    @Transactional(readOnly = true)
+    public Mono<CheckOutPreviewResult> checkOutPreview(String lotId, String plateNumber) {
+        String error = PlateNumberValidator.validate(plateNumber);
+        if (error != null) {
+            return Mono.just(CheckOutPreviewResult.error(error));
+        }
+
+        String lot = lotRouting.resolveLot(lotId);
+        if (!lotRouting.isLocal(lot)) {
+            return Mono.just(CheckOutPreviewResult.error("Lot is served by another node"));
+        }
+
+        String normalizedPlate = PlateNumberValidator.normalize(plateNumber);
+
+        return ticketRepository.findByLotIdAndPlateNumberAndStatus(lot, normalizedPlate, TicketStatus.ACTIVE)
+                .map(ticket -> {
+                    LocalDateTime checkOutTime = now();
+                    FeeResult feeResult = parkingFeeCalculator.calculateFee(ticket.getCheckInTime(), checkOutTime);
+                    if (feeResult.isSuccess()) {
+                        return CheckOutPreviewResult.ok(ticket.getId(),
+                                ticket.getLotId(),
+                                ticket.getPlateNumber(),
+                                ticket.getCheckInTime(),
+                                checkOutTime,
+                                feeResult.getFee());
+                    }
+                    return CheckOutPreviewResult.error(feeResult.getError());
+                })
+                .defaultIfEmpty(CheckOutPreviewResult.error("Active ticket not found"));
+    }
+
+    // No in-memory shift ledger here: the closed flag and the cashier are checked in the database, and a shift
+    // closed on a servlet node is totalled from the tickets table.
+    @Transactional
+    public Mono<ConfirmCheckOutResult> confirmCheckOut(Long ticketId, String gateId, String shiftId, String cashierId) {
+        String error = TicketIdValidator.validate(ticketId);
+        if (error != null) {
+            return Mono.just(ConfirmCheckOutResult.error(error));
+        }
+        if (shiftId != null && shiftId.isBlank()) {
+            return Mono.just(ConfirmCheckOutResult.error("Shift id is required"));
+        }
+        if (shiftId != null && (cashierId == null || cashierId.isBlank())) {
+            return Mono.just(ConfirmCheckOutResult.error("Cashier id is required"));
+        }
+
+        return ticketRepository.findById(ticketId)
+                .flatMap(ticket -> {
+                    if (!lotRouting.isLocal(ticket.getLotId())) {
+                        return Mono.just(ConfirmCheckOutResult.error("Lot is served by another node"));
+                    }
+                    if (ticket.getStatus() != TicketStatus.ACTIVE) {
+                        return Mono.just(ConfirmCheckOutResult.error("Ticket is not active"));
+                    }
+                    LocalDateTime checkOutTime = now();
+                    FeeResult feeResult = parkingFeeCalculator.calculateFee(ticket.getCheckInTime(), checkOutTime);
+                    if (!feeResult.isSuccess()) {
+                        return Mono.just(ConfirmCheckOutResult.error(feeResult.getError()));
+                    }
+                    return shiftError(shiftId, cashierId)
+                            .map(ConfirmCheckOutResult::error)
+                            .switchIfEmpty(Mono.defer(() -> complete(ticketId, checkOutTime, gateId, feeResult.getFee(),
+                                    shiftId, cashierId)));
+                })
+                .defaultIfEmpty(ConfirmCheckOutResult.error("Ticket not found"));
+    }
+
+    private Mono<ConfirmCheckOutResult> complete(Long ticketId, LocalDateTime checkOutTime, String gateId, int fee,
+            String shiftId, String cashierId) {
+        return ticketRepository.complete(ticketId, checkOutTime, gateId, fee, shiftId, cashierId)
+                .flatMap(updated -> updated == 0
+                        ? Mono.just(ConfirmCheckOutResult.error("Ticket is not active"))
+                        : ticketRepository.findById(ticketId).map(saved -> ConfirmCheckOutResult.ok(saved.toTicket())));
+    }
+
+    private Mono<String> shiftError(String shiftId, String cashierId) {
+        if (shiftId == null) {
+            return Mono.empty();
+        }
+        return ticketRepository.isShiftClosed(shiftId)
+                .flatMap(closed -> closed
+                        ? Mono.just("Shift is closed")
+                        : ticketRepository.isShiftHeldByOtherCashier(shiftId, cashierId)
+                                .filter(Boolean::booleanValue)
+                                .map(other -> "Shift is assigned to another cashier"));
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.ofInstant(clock.instant(), clock.getZone());
+    }
+}
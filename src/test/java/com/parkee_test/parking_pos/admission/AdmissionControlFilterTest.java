@@ -0,0 +1,91 @@
+package com.parkee_test.parking_pos.admission;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class AdmissionControlFilterTest {
+
+    private AdmissionLimiter limiter;
+    private SimpleMeterRegistry meterRegistry;
+    private AdmissionControlFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.setRetryAfter(Duration.ofSeconds(3));
+        limiter = new AdmissionLimiter(new AdaptiveConcurrencyLimit(1, 1, 1), Duration.ofSeconds(1), 1);
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new AdmissionControlFilter(limiter, properties, meterRegistry);
+    }
+
+    @Test
+    void requestOverLimitShouldGet429WithRetryAfterAndCountRejection() throws Exception {
+        AdmissionLimiter.Permit held = limiter.tryAcquire(AdmissionPriority.HIGH).orElseThrow();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/checkout/preview"), response, chain);
+
+        assertEquals(429, response.getStatus());
+        assertEquals("3", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertNull(chain.getRequest());
+        assertEquals(1.0, meterRegistry.counter("parking.admission.rejected", "endpoint", "/api/checkout/preview").count());
+        held.close();
+    }
+
+    @Test
+    void queuedConfirmShouldRunOnceAPermitIsReleasedAndCountQueueing() throws Exception {
+        AdmissionLimiter.Permit held = limiter.tryAcquire(AdmissionPriority.HIGH).orElseThrow();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> confirm = executor.submit(() -> {
+                filter.doFilter(new MockHttpServletRequest("POST", "/api/checkout/confirm"), response, chain);
+                return null;
+            });
+            while (limiter.getQueued() == 0) {
+                Thread.onSpinWait();
+            }
+            held.close();
+            confirm.get(1, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+        assertEquals(1.0, meterRegistry.counter("parking.admission.queued", "endpoint", "/api/checkout/confirm").count());
+        assertEquals(0, limiter.getInflight());
+    }
+
+    @Test
+    void unlistedEndpointShouldBypassLimiter() throws Exception {
+        AdmissionLimiter.Permit held = limiter.tryAcquire(AdmissionPriority.HIGH).orElseThrow();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/lots/MAIN/route"), response, chain);
+
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+        assertEquals(0, meterRegistry.find("parking.admission.rejected").counters().size());
+        held.close();
+    }
+}
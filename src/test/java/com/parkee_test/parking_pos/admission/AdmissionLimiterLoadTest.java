@@ -0,0 +1,155 @@
+package com.parkee_test.parking_pos.admission;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class AdmissionLimiterLoadTest {
+
+    private static final int CONNECTIONS = 4;
+    private static final long SERVICE_MILLIS = 5;
+    private static final int CLIENTS = 64;
+    private static final int REQUESTS_PER_CLIENT = 30;
+
+    @Test
+    void overloadShouldKeepAdmittedP99BoundedAndPreferConfirm() throws Exception {
+        LoadResult unprotected = runLoad(null);
+        AdmissionLimiter limiter = new AdmissionLimiter(new AdaptiveConcurrencyLimit(20, 2, 200), Duration.ofMillis(20), 16);
+        LoadResult protectedRun = runLoad(limiter);
+
+        assertTrue(protectedRun.p99Millis() < unprotected.p99Millis(),
+                () -> "admitted p99 " + protectedRun.p99Millis() + " ms, unprotected p99 " + unprotected.p99Millis() + " ms");
+        assertTrue(protectedRun.totalRejected() > 0);
+        assertTrue(protectedRun.rejected.get(AdmissionPriority.HIGH).get()
+                < protectedRun.rejected.get(AdmissionPriority.LOW).get(), () -> "rejected " + protectedRun.rejected);
+        assertTrue(limiter.getLimit() < 20, () -> "limit " + limiter.getLimit() + " did not shrink under overload");
+    }
+
+    @Test
+    void sustainedOverloadShouldNotRebaselineMinRttAndReopenLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 2, 200);
+        long baselineNanos = TimeUnit.MILLISECONDS.toNanos(1);
+        for (int i = 0; i < 2_000; i++) {
+            limit.onSample(baselineNanos, limit.getLimit());
+        }
+        int healthyLimit = limit.getLimit();
+
+        for (int i = 0; i < 3_000; i++) {
+            limit.onSample(baselineNanos * 10, limit.getLimit());
+        }
+
+        assertTrue(limit.getLimit() < healthyLimit / 2,
+                () -> "limit " + limit.getLimit() + " climbed back from healthy " + healthyLimit);
+    }
+
+    @Test
+    void queuedHighPriorityRequestShouldBeAdmittedWhenPermitIsReleased() throws Exception {
+        AdmissionLimiter limiter = new AdmissionLimiter(new AdaptiveConcurrencyLimit(1, 1, 1), Duration.ofSeconds(1), 1);
+        AdmissionLimiter.Permit first = limiter.tryAcquire(AdmissionPriority.HIGH).orElseThrow();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Optional<AdmissionLimiter.Permit>> waiting = executor.submit(() -> limiter.tryAcquire(AdmissionPriority.HIGH));
+            assertTrue(limiter.tryAcquire(AdmissionPriority.LOW).isEmpty());
+
+            while (limiter.getQueued() == 0) {
+                Thread.onSpinWait();
+            }
+            first.close();
+
+            Optional<AdmissionLimiter.Permit> admitted = waiting.get(1, TimeUnit.SECONDS);
+            assertTrue(admitted.isPresent());
+            assertTrue(admitted.get().wasQueued());
+            admitted.get().close();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private LoadResult runLoad(AdmissionLimiter limiter) throws Exception {
+        Semaphore connectionPool = new Semaphore(CONNECTIONS, true);
+        LoadResult result = new LoadResult();
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            List<Future<?>> clients = new ArrayList<>();
+            for (int c = 0; c < CLIENTS; c++) {
+                int client = c;
+                clients.add(executor.submit(() -> {
+                    for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                        AdmissionPriority priority = AdmissionPriority.values()[(client + i) % 3];
+                        long start = System.nanoTime();
+                        if (limiter == null) {
+                            callBackend(connectionPool);
+                        } else {
+                            Optional<AdmissionLimiter.Permit> permit = limiter.tryAcquire(priority);
+                            if (permit.isEmpty()) {
+                                result.rejected.get(priority).incrementAndGet();
+                                Thread.sleep(SERVICE_MILLIS);
+                                continue;
+                            }
+                            try (AdmissionLimiter.Permit admitted = permit.get()) {
+                                callBackend(connectionPool);
+                            }
+                        }
+                        result.record(System.nanoTime() - start);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> client : clients) {
+                client.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return result;
+    }
+
+    private void callBackend(Semaphore connectionPool) throws InterruptedException {
+        connectionPool.acquire();
+        try {
+            Thread.sleep(SERVICE_MILLIS);
+        } finally {
+            connectionPool.release();
+        }
+    }
+
+    private static class LoadResult {
+
+        private final List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        private final Map<AdmissionPriority, AtomicInteger> rejected = new EnumMap<>(AdmissionPriority.class);
+
+        LoadResult() {
+            for (AdmissionPriority priority : AdmissionPriority.values()) {
+                rejected.put(priority, new AtomicInteger());
+            }
+        }
+
+        void record(long latencyNanos) {
+            latencies.add(latencyNanos);
+        }
+
+        int totalRejected() {
+            return rejected.values().stream().mapToInt(AtomicInteger::get).sum();
+        }
+
+        long p99Millis() {
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            return TimeUnit.NANOSECONDS.toMillis(sorted.get((int) (sorted.size() * 0.99) - 1));
+        }
+    }
+}
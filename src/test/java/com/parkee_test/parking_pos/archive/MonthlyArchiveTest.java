@@ -0,0 +1,148 @@
+package com.parkee_test.parking_pos.archive;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MonthlyArchiveTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2025, 11);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void roundTripShouldPreserveTicketsForPlateLookup() throws IOException {
+        MonthlyArchiveWriter writer = new MonthlyArchiveWriter(MONTH);
+        writer.add(ticket(10, "B1234DE", LocalDateTime.of(2025, 11, 15, 9, 30),
+                LocalDateTime.of(2025, 11, 15, 10, 45), 6000));
+        writer.add(ticket(11, "D555XY", LocalDateTime.of(2025, 11, 15, 8, 0),
+                LocalDateTime.of(2025, 11, 15, 8, 20), 3000));
+        writer.add(ticket(12, "B1234DE", LocalDateTime.of(2025, 10, 31, 23, 0),
+                LocalDateTime.of(2025, 11, 1, 2, 0), 9000));
+        Path file = tempDir.resolve("tickets-2025-11.pkta");
+        writer.writeTo(file);
+
+        MonthlyArchiveReader reader = MonthlyArchiveReader.open(file);
+        List<ArchivedTicket> tickets = reader.findByPlate("B1234DE");
+
+        assertEquals(MONTH, reader.getMonth());
+        assertEquals(3, reader.getRows());
+        assertEquals(2, tickets.size());
+        assertEquals(12, tickets.get(0).getId());
+        assertEquals(LocalDateTime.of(2025, 10, 31, 23, 0), tickets.get(0).getCheckInTime());
+        assertEquals(LocalDateTime.of(2025, 11, 1, 2, 0), tickets.get(0).getCheckOutTime());
+        assertEquals(9000, tickets.get(0).getTotalPrice());
+        assertEquals(10, tickets.get(1).getId());
+        assertEquals(6000, tickets.get(1).getTotalPrice());
+        assertTrue(reader.findByPlate("UNKNOWN").isEmpty());
+    }
+
+    @Test
+    void roundTripShouldKeepLotGatesShiftAndCashier() throws IOException {
+        MonthlyArchiveWriter writer = new MonthlyArchiveWriter(MONTH);
+        LocalDateTime checkIn = LocalDateTime.of(2025, 11, 15, 9, 30);
+        writer.add(new ArchivedTicket(20, "NORTH", "B1234DE", checkIn, checkIn.plusHours(1), 3000, "N1", "N2",
+                "S-0815", "C7"));
+        writer.add(ticket(21, "B1234DE", checkIn.plusHours(2), checkIn.plusHours(3), 3000));
+        writer.add(new ArchivedTicket(22, "SOUTH", "D555XY", checkIn, checkIn.plusHours(2), 6000, "S1", "S2",
+                "S-0815", "C7"));
+        Path file = tempDir.resolve("details.pkta");
+        writer.writeTo(file);
+
+        MonthlyArchiveReader reader = MonthlyArchiveReader.open(file);
+        List<ArchivedTicket> plate = reader.findByPlate("B1234DE");
+        List<ArchivedTicket> shift = reader.findByShift("S-0815");
+
+        assertEquals("NORTH", plate.get(0).getLotId());
+        assertEquals("N1", plate.get(0).getEntryGate());
+        assertEquals("N2", plate.get(0).getExitGate());
+        assertEquals("C7", plate.get(0).getCashierId());
+        assertEquals("MAIN", plate.get(1).getLotId());
+        assertNull(plate.get(1).getShiftId());
+        assertNull(plate.get(1).getEntryGate());
+        assertEquals(2, shift.size());
+        assertEquals(9000, shift.stream().mapToInt(ArchivedTicket::getTotalPrice).sum());
+        assertTrue(reader.findByShift("S-0000").isEmpty());
+    }
+
+    @Test
+    void revenueShouldAggregateByCheckOutTime() throws IOException {
+        MonthlyArchiveWriter writer = new MonthlyArchiveWriter(MONTH);
+        writer.add(ticket(1, "A1", LocalDateTime.of(2025, 11, 1, 8, 0), LocalDateTime.of(2025, 11, 1, 9, 0), 3000));
+        writer.add(ticket(2, "A2", LocalDateTime.of(2025, 11, 2, 8, 0), LocalDateTime.of(2025, 11, 2, 11, 0), 9000));
+        writer.add(ticket(3, "A3", LocalDateTime.of(2025, 11, 3, 8, 0), LocalDateTime.of(2025, 11, 3, 10, 0), 6000));
+        Path file = tempDir.resolve("revenue.pkta");
+        writer.writeTo(file);
+
+        MonthlyArchiveReader reader = MonthlyArchiveReader.open(file);
+
+        assertEquals(3, reader.revenue().getTickets());
+        assertEquals(18000, reader.revenue().getRevenue());
+        RevenueSummary secondDay = reader.revenue(LocalDateTime.of(2025, 11, 2, 0, 0), LocalDateTime.of(2025, 11, 3, 0, 0));
+        assertEquals(1, secondDay.getTickets());
+        assertEquals(9000, secondDay.getRevenue());
+    }
+
+    @Test
+    void emptyMonthShouldRoundTrip() throws IOException {
+        Path file = tempDir.resolve("empty.pkta");
+        new MonthlyArchiveWriter(MONTH).writeTo(file);
+
+        MonthlyArchiveReader reader = MonthlyArchiveReader.open(file);
+
+        assertEquals(0, reader.getRows());
+        assertEquals(0, reader.revenue().getRevenue());
+    }
+
+    @Test
+    void archiveShouldStayCompactAndScanQuickly(TestReporter reporter) throws IOException {
+        int rows = 500_000;
+        Random random = new Random(42);
+        MonthlyArchiveWriter writer = new MonthlyArchiveWriter(MONTH);
+        LocalDateTime checkIn = MONTH.atDay(1).atStartOfDay();
+        long expectedRevenue = 0;
+        for (int id = 1; id <= rows; id++) {
+            checkIn = checkIn.plusSeconds(random.nextInt(10));
+            int hours = 1 + random.nextInt(8);
+            int price = hours * 3000;
+            expectedRevenue += price;
+            writer.add(ticket(id, "B" + random.nextInt(20_000) + "XY", checkIn,
+                    checkIn.plusMinutes(hours * 60L - random.nextInt(60)), price));
+        }
+
+        ByteArrayOutputStream raw = new ByteArrayOutputStream();
+        writer.writeTo(raw);
+        Path file = tempDir.resolve("bench.pkta");
+        Files.write(file, raw.toByteArray());
+        double bytesPerRow = (double) Files.size(file) / rows;
+
+        MonthlyArchiveReader reader = MonthlyArchiveReader.open(file);
+        long start = System.nanoTime();
+        RevenueSummary summary = reader.revenue(MONTH.atDay(1).atStartOfDay(), MONTH.plusMonths(2).atDay(1).atStartOfDay());
+        long scanNanos = System.nanoTime() - start;
+
+        reporter.publishEntry("archive", String.format("%d rows, %.2f bytes/row, revenue scan %.1f M rows/s",
+                rows, bytesPerRow, rows / (scanNanos / 1_000.0)));
+
+        assertEquals(expectedRevenue, summary.getRevenue());
+        assertTrue(bytesPerRow < 12, "expected under 12 bytes per ticket but was " + bytesPerRow);
+    }
+
+    private static ArchivedTicket ticket(long id, String plateNumber, LocalDateTime checkInTime,
+            LocalDateTime checkOutTime, int totalPrice) {
+        return new ArchivedTicket(id, "MAIN", plateNumber, checkInTime, checkOutTime, totalPrice, null, null, null, null);
+    }
+}
@@ -0,0 +1,169 @@
+package com.parkee_test.parking_pos.archive;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.parkee_test.parking_pos.config.LotConfig;
+import com.parkee_test.parking_pos.config.ShiftConfig;
+import com.parkee_test.parking_pos.config.TimeConfig;
+import com.parkee_test.parking_pos.dto.TicketHistoryResponse;
+import com.parkee_test.parking_pos.entity.Ticket;
+import com.parkee_test.parking_pos.entity.TicketStatus;
+import com.parkee_test.parking_pos.repository.TicketRepository;
+import com.parkee_test.parking_pos.service.ShiftAuditResult;
+import com.parkee_test.parking_pos.service.ShiftService;
+import com.parkee_test.parking_pos.service.TicketHistoryService;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TicketArchiveService.class, TicketArchiveRepository.class, TicketHistoryService.class, ShiftService.class,
+    ShiftConfig.class, LotConfig.class, TimeConfig.class})
+public class TicketArchiveServiceTest {
+
+    private static final Path ARCHIVE_DIR = createArchiveDir();
+
+    @Autowired
+    private TicketArchiveService ticketArchiveService;
+
+    @Autowired
+    private TicketArchiveRepository ticketArchiveRepository;
+
+    @Autowired
+    private TicketHistoryService ticketHistoryService;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private ShiftService shiftService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private Clock clock;
+
+    @DynamicPropertySource
+    static void archiveDirectory(DynamicPropertyRegistry registry) {
+        registry.add("parking.archive.directory", ARCHIVE_DIR::toString);
+    }
+
+    @Test
+    void historyShouldListArchivedTicketStillInDatabaseOnce() {
+        YearMonth month = YearMonth.of(2025, 8);
+        saveCompleted("B7001XY", month, 6000);
+
+        assertTrue(ticketArchiveService.exportMonth(month, false).isSuccess());
+        List<TicketHistoryResponse> history = ticketHistoryService.findHistory(null, "B7001XY");
+
+        assertEquals(1, history.size());
+        assertTrue(history.get(0).isArchived());
+    }
+
+    @Test
+    void archivedMonthShouldBeRefusedWithoutOverwrite() throws IOException {
+        YearMonth month = YearMonth.of(2025, 9);
+        saveCompleted("B7002XY", month, 6000);
+        assertTrue(ticketArchiveService.exportMonth(month, false).isSuccess());
+        byte[] original = Files.readAllBytes(ticketArchiveRepository.fileFor(month));
+
+        ArchiveExportResult again = ticketArchiveService.exportMonth(month, false);
+
+        assertFalse(again.isSuccess());
+        assertEquals("Month is already archived", again.getError());
+        assertArrayEquals(original, Files.readAllBytes(ticketArchiveRepository.fileFor(month)));
+    }
+
+    @Test
+    void overwriteShouldKeepArchiveWhenRowsWereAlreadyDeleted() {
+        YearMonth month = YearMonth.of(2025, 10);
+        Ticket ticket = saveCompleted("B7003XY", month, 6000);
+        assertTrue(ticketArchiveService.exportMonth(month, false).isSuccess());
+        ticketRepository.delete(ticket);
+
+        ArchiveExportResult overwrite = ticketArchiveService.exportMonth(month, true);
+
+        assertFalse(overwrite.isSuccess());
+        assertEquals(1, ticketArchiveRepository.reader(month).getRows());
+        assertEquals(6000, ticketArchiveRepository.reader(month).revenue().getRevenue());
+        assertFalse(Files.exists(ticketArchiveRepository.fileFor(month).resolveSibling("tickets-" + month + ".pkta.staged")));
+    }
+
+    @Test
+    void deleteAfterExportShouldKeepLotAndShiftInArchiveAndRemoveOnlyArchivedRows() {
+        YearMonth month = YearMonth.of(2025, 7);
+        Ticket archived = ticketRepository.save(Ticket.builder()
+                .lotId("NORTH")
+                .entryGate("N1")
+                .exitGate("N2")
+                .shiftId("S-0701")
+                .cashierId("C7")
+                .plateNumber("B7004XY")
+                .checkInTime(month.atDay(3).atTime(8, 0))
+                .checkOutTime(month.atDay(3).atTime(10, 0))
+                .totalPrice(6000)
+                .status(TicketStatus.COMPLETED)
+                .build());
+        Ticket otherMonth = saveCompleted("B7004XY", YearMonth.of(2025, 6), 3000);
+        TicketArchiveService deleting = new TicketArchiveService(ticketRepository, ticketArchiveRepository,
+                jdbcTemplate, transactionManager, clock, true);
+
+        ArchiveExportResult result = deleting.exportMonth(month, false);
+
+        assertTrue(result.isSuccess());
+        assertEquals(1, result.getDeletedFromDatabase());
+        assertFalse(ticketRepository.existsById(archived.getId()));
+        assertTrue(ticketRepository.existsById(otherMonth.getId()));
+        List<TicketHistoryResponse> north = ticketHistoryService.findHistory("north", "B7004XY");
+        assertEquals(1, north.size());
+        assertEquals("NORTH", north.get(0).getLotId());
+        assertTrue(north.get(0).isArchived());
+        assertEquals(2, ticketHistoryService.findHistory(null, "B7004XY").size());
+        ShiftAuditResult audit = shiftService.auditShift("S-0701");
+        assertEquals(1, audit.getTickets().getTicketCount());
+        assertEquals(6000, audit.getTickets().getTotalAmount());
+    }
+
+    private Ticket saveCompleted(String plateNumber, YearMonth month, int totalPrice) {
+        LocalDateTime checkIn = month.atDay(10).atTime(8, 0);
+        return ticketRepository.save(Ticket.builder()
+                .lotId("MAIN")
+                .plateNumber(plateNumber)
+                .checkInTime(checkIn)
+                .checkOutTime(checkIn.plusHours(2))
+                .totalPrice(totalPrice)
+                .status(TicketStatus.COMPLETED)
+                .build());
+    }
+
+    private static Path createArchiveDir() {
+        try {
+            return Files.createTempDirectory("ticket-archive-test");
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
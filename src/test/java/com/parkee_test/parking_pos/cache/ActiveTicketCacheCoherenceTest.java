@@ -0,0 +1,283 @@
+package com.parkee_test.parking_pos.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.parkee_test.parking_pos.datasource.ReplicaStalenessGuard;
+import com.parkee_test.parking_pos.entity.Ticket;
+import com.parkee_test.parking_pos.entity.TicketStatus;
+import com.parkee_test.parking_pos.lot.ActiveVehicleRegistry;
+import com.parkee_test.parking_pos.lot.LotRouting;
+import com.parkee_test.parking_pos.repository.InMemoryTicketStore;
+import com.parkee_test.parking_pos.service.CheckInResult;
+import com.parkee_test.parking_pos.service.CheckOutPreviewResult;
+import com.parkee_test.parking_pos.service.ParkingFeeCalculator;
+import com.parkee_test.parking_pos.service.TicketChangedEvent;
+import com.parkee_test.parking_pos.service.TicketService;
+import com.parkee_test.parking_pos.shift.ShiftAggregate;
+import com.parkee_test.parking_pos.shift.ShiftLedger;
+
+public class ActiveTicketCacheCoherenceTest {
+
+    private static final String LOT = "MAIN";
+    private static final int NODES = 3;
+
+    private final InMemoryTicketStore store = new InMemoryTicketStore();
+    private final InMemoryInvalidationBus bus = new InMemoryInvalidationBus();
+    private final List<ActiveTicketCache> caches = new ArrayList<>();
+    private final List<TicketService> nodes = new ArrayList<>();
+    private Clock clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = Clock.fixed(Instant.parse("2025-11-15T10:15:00Z"), ZoneOffset.UTC);
+        for (int node = 0; node < NODES; node++) {
+            ActiveTicketCache cache = new ActiveTicketCache(Duration.ofMinutes(5), 10_000);
+            caches.add(cache);
+            nodes.add(node(bus, cache));
+        }
+    }
+
+    @Test
+    void noNodeShouldServeTicketAfterAnotherNodeCompletedIt() {
+        CheckInResult checkIn = nodes.get(0).checkIn(LOT, "g1", "B1XY");
+        assertTrue(checkIn.isSuccess());
+        Long ticketId = checkIn.getTicket().getId();
+        for (TicketService node : nodes) {
+            assertEquals(ticketId, node.checkOutPreview(LOT, "B1XY").getTicketId());
+        }
+        assertTrue(caches.stream().allMatch(cache -> cache.getActive(LOT, "B1XY").isPresent()));
+
+        assertTrue(nodes.get(1).confirmCheckOut(ticketId, "g2", null, null).isSuccess());
+
+        for (TicketService node : nodes) {
+            assertEquals("Active ticket not found", node.checkOutPreview(LOT, "B1XY").getError());
+        }
+        CheckInResult again = nodes.get(2).checkIn(LOT, "g3", "B1XY");
+        assertTrue(again.isSuccess());
+        assertEquals("Vehicle already checked in", nodes.get(0).checkIn(LOT, "g1", "B1XY").getError());
+    }
+
+    @Test
+    void concurrentPreviewsShouldNeverSeeTicketCompletedElsewhere() throws Exception {
+        int plates = 40;
+        List<Long> ticketIds = new ArrayList<>();
+        for (int plate = 0; plate < plates; plate++) {
+            CheckInResult checkIn = nodes.get(plate % NODES).checkIn(LOT, "g1", "B" + plate + "XY");
+            assertTrue(checkIn.isSuccess());
+            ticketIds.add(checkIn.getTicket().getId());
+        }
+        Map<Long, AtomicBoolean> completed = new ConcurrentHashMap<>();
+        ticketIds.forEach(id -> completed.put(id, new AtomicBoolean()));
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> violations = new ArrayList<>();
+        try {
+            for (int reader = 0; reader < 12; reader++) {
+                TicketService node = nodes.get(reader % NODES);
+                violations.add(executor.submit(() -> {
+                    start.await();
+                    int seen = 0;
+                    for (int round = 0; round < 20; round++) {
+                        for (int plate = 0; plate < plates; plate++) {
+                            boolean completedBefore = completed.get(ticketIds.get(plate)).get();
+                            CheckOutPreviewResult preview = node.checkOutPreview(LOT, "B" + plate + "XY");
+                            if (completedBefore && preview.isSuccess()) {
+                                seen++;
+                            }
+                        }
+                    }
+                    return seen;
+                }));
+            }
+            for (int writer = 0; writer < 4; writer++) {
+                int offset = writer;
+                violations.add(executor.submit(() -> {
+                    start.await();
+                    for (int plate = offset; plate < plates; plate += 4) {
+                        Long ticketId = ticketIds.get(plate);
+                        assertTrue(nodes.get(plate % NODES).confirmCheckOut(ticketId, "g2", null, null).isSuccess());
+                        completed.get(ticketId).set(true);
+                    }
+                    return 0;
+                }));
+            }
+            start.countDown();
+
+            for (Future<Integer> violation : violations) {
+                assertEquals(0, violation.get(60, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (ActiveTicketCache cache : caches) {
+            for (int plate = 0; plate < plates; plate++) {
+                assertFalse(cache.getActive(LOT, "B" + plate + "XY").isPresent());
+            }
+        }
+    }
+
+    @Test
+    void delayedAndReorderedInvalidationsShouldConvergeOnNewestTicket() {
+        DeferredInvalidationBus deferred = new DeferredInvalidationBus();
+        List<TicketService> cluster = new ArrayList<>();
+        for (int node = 0; node < NODES; node++) {
+            cluster.add(node(deferred, new ActiveTicketCache(Duration.ofMinutes(5), 10_000)));
+        }
+        Long first = cluster.get(0).checkIn(LOT, "g1", "B1XY").getTicket().getId();
+        assertEquals(first, cluster.get(0).checkOutPreview(LOT, "B1XY").getTicketId());
+        assertEquals(first, cluster.get(1).checkOutPreview(LOT, "B1XY").getTicketId());
+
+        assertTrue(cluster.get(1).confirmCheckOut(first, "g2", null, null).isSuccess());
+
+        // Until delivery a node may still preview the paid ticket, but confirm re-reads the row and refuses it.
+        assertEquals(first, cluster.get(0).checkOutPreview(LOT, "B1XY").getTicketId());
+        assertEquals("Ticket is not active", cluster.get(0).confirmCheckOut(first, "g2", null, null).getError());
+
+        Long second = cluster.get(2).checkIn(LOT, "g1", "B1XY").getTicket().getId();
+        // Every invalidation arrives late and newest first: check-in of the second ticket, then the completion and
+        // check-in of the first.
+        deferred.deliverReversed();
+
+        for (TicketService node : cluster) {
+            assertEquals(second, node.checkOutPreview(LOT, "B1XY").getTicketId());
+        }
+    }
+
+    @Test
+    void publisherShouldSendOnceInThePhaseTheBusSupports() {
+        TicketChangedEvent event = new TicketChangedEvent(ticket(7L, 1, TicketStatus.COMPLETED));
+        DeferredInvalidationBus afterCommit = new DeferredInvalidationBus();
+        DeferredInvalidationBus onCommit = new DeferredInvalidationBus() {
+            @Override
+            public boolean deliversOnCommit() {
+                return true;
+            }
+        };
+
+        for (DeferredInvalidationBus target : List.of(afterCommit, onCommit)) {
+            ActiveTicketInvalidationPublisher publisher = new ActiveTicketInvalidationPublisher(target);
+            publisher.beforeCommit(event);
+            assertEquals(target.deliversOnCommit() ? 1 : 0, target.pending.size());
+            publisher.onTicketChanged(event);
+            assertEquals(1, target.pending.size());
+        }
+    }
+
+    @Test
+    void olderRowOrInvalidationShouldNotOverrideNewerState() {
+        ActiveTicketCache cache = new ActiveTicketCache(Duration.ofMinutes(5), 100);
+        Ticket active = ticket(7L, 0, TicketStatus.ACTIVE);
+        Ticket completed = ticket(7L, 1, TicketStatus.COMPLETED);
+
+        cache.onInvalidation(TicketInvalidation.of(completed));
+        assertTrue(cache.putLoaded(LOT, "B1XY", active, cache.generation(LOT)).isEmpty());
+        assertFalse(cache.getActive(LOT, "B1XY").isPresent());
+
+        cache.onInvalidation(TicketInvalidation.of(active));
+        assertFalse(cache.getActive(LOT, "B1XY").isPresent());
+
+        ActiveTicketCache sameVersion = new ActiveTicketCache(Duration.ofMinutes(5), 100);
+        sameVersion.putLoaded(LOT, "B1XY", ticket(7L, 1, TicketStatus.ACTIVE), sameVersion.generation(LOT));
+        sameVersion.onInvalidation(TicketInvalidation.of(completed));
+        assertFalse(sameVersion.getActive(LOT, "B1XY").isPresent());
+
+        Ticket next = ticket(8L, 0, TicketStatus.ACTIVE);
+        cache.onInvalidation(TicketInvalidation.of(next));
+        assertEquals(8L, cache.getActive(LOT, "B1XY").orElseThrow().getTicketId());
+    }
+
+    @Test
+    void rowReadBeforeMissedInvalidationsShouldNotBeCached() {
+        ActiveTicketCache cache = new ActiveTicketCache(Duration.ofMinutes(5), 100);
+        long generation = cache.generation(LOT);
+
+        cache.onMissedInvalidations();
+
+        assertTrue(cache.putLoaded(LOT, "B1XY", ticket(7L, 0, TicketStatus.ACTIVE), generation).isPresent());
+        assertFalse(cache.getActive(LOT, "B1XY").isPresent());
+        assertTrue(cache.putLoaded(LOT, "B1XY", ticket(7L, 0, TicketStatus.ACTIVE), cache.generation(LOT)).isPresent());
+        assertTrue(cache.getActive(LOT, "B1XY").isPresent());
+    }
+
+    @Test
+    void entriesShouldExpireAfterMaxAge() {
+        AtomicLong now = new AtomicLong();
+        ActiveTicketCache cache = new ActiveTicketCache(Duration.ofSeconds(30), 100, now::get);
+        cache.putLoaded(LOT, "B1XY", ticket(7L, 0, TicketStatus.ACTIVE), cache.generation(LOT));
+
+        now.addAndGet(Duration.ofSeconds(29).toNanos());
+        assertTrue(cache.getActive(LOT, "B1XY").isPresent());
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertFalse(cache.getActive(LOT, "B1XY").isPresent());
+        assertEquals(0, cache.size(LOT));
+    }
+
+    private Ticket ticket(Long id, long version, TicketStatus status) {
+        return Ticket.builder()
+                .id(id)
+                .version(version)
+                .lotId(LOT)
+                .plateNumber("B1XY")
+                .checkInTime(LocalDateTime.ofInstant(clock.instant(), clock.getZone()).minusHours(1))
+                .status(status)
+                .build();
+    }
+
+    private TicketService node(InvalidationBus invalidationBus, ActiveTicketCache cache) {
+        invalidationBus.subscribe(cache);
+        ActiveTicketInvalidationPublisher publisher = new ActiveTicketInvalidationPublisher(invalidationBus);
+        return new TicketService(store.repository(), new ParkingFeeCalculator(), clock,
+                new ReplicaStalenessGuard(clock, Duration.ofSeconds(2)),
+                event -> publisher.onTicketChanged((TicketChangedEvent) event),
+                new LotRouting(LOT, null, List.of()), new ActiveVehicleRegistry(), cache,
+                new ShiftLedger(shiftId -> ShiftLedger.openTotals(null, ShiftAggregate.empty()), 1000));
+    }
+
+    // Holds invalidations back like a slow NOTIFY listener, then delivers them newest first.
+    private static class DeferredInvalidationBus implements InvalidationBus {
+
+        private final List<InvalidationListener> listeners = new ArrayList<>();
+        private final List<TicketInvalidation> pending = new ArrayList<>();
+
+        @Override
+        public void publish(TicketInvalidation invalidation) {
+            pending.add(invalidation);
+        }
+
+        @Override
+        public void subscribe(InvalidationListener listener) {
+            listeners.add(listener);
+        }
+
+        private void deliverReversed() {
+            for (int index = pending.size() - 1; index >= 0; index--) {
+                TicketInvalidation invalidation = pending.get(index);
+                listeners.forEach(listener -> listener.onInvalidation(invalidation));
+            }
+            pending.clear();
+        }
+    }
+}
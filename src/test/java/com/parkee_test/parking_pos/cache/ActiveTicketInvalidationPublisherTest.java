@@ -0,0 +1,96 @@
+package com.parkee_test.parking_pos.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.parkee_test.parking_pos.config.CacheConfig;
+import com.parkee_test.parking_pos.config.DataSourceRoutingConfig;
+import com.parkee_test.parking_pos.config.LotConfig;
+import com.parkee_test.parking_pos.config.ShiftConfig;
+import com.parkee_test.parking_pos.config.TimeConfig;
+import com.parkee_test.parking_pos.entity.Ticket;
+import com.parkee_test.parking_pos.entity.TicketStatus;
+import com.parkee_test.parking_pos.repository.TicketRepository;
+import com.parkee_test.parking_pos.service.CheckInResult;
+import com.parkee_test.parking_pos.service.ParkingFeeCalculator;
+import com.parkee_test.parking_pos.service.TicketService;
+
+// Runs the Postgres bus's publishing path (before commit, inside the ticket transaction) through real JPA.
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = "parking.cache.bus=on-commit")
+@Import({TicketService.class, ParkingFeeCalculator.class, TimeConfig.class, LotConfig.class, CacheConfig.class,
+    DataSourceRoutingConfig.class, ShiftConfig.class, ActiveTicketInvalidationPublisherTest.OnCommitBusConfig.class})
+public class ActiveTicketInvalidationPublisherTest {
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private OnCommitBus bus;
+
+    @Test
+    void completionPublishedBeforeCommitShouldCarryCommittedVersion() {
+        CheckInResult checkIn = ticketService.checkIn("MAIN", "g1", "B8001XY");
+        assertTrue(checkIn.isSuccess());
+        ActiveTicketCache remote = new ActiveTicketCache(Duration.ofMinutes(5), 100);
+        bus.published.forEach(remote::onInvalidation);
+        assertTrue(remote.getActive("MAIN", "B8001XY").isPresent());
+        bus.published.clear();
+
+        assertTrue(ticketService.confirmCheckOut(checkIn.getTicket().getId(), "g2", null, null).isSuccess());
+
+        Ticket committed = ticketRepository.findById(checkIn.getTicket().getId()).orElseThrow();
+        assertEquals(1, bus.published.size());
+        TicketInvalidation completion = bus.published.get(0);
+        assertEquals(TicketStatus.COMPLETED, completion.getStatus());
+        assertEquals(committed.getVersion(), completion.getVersion());
+        remote.onInvalidation(completion);
+        assertFalse(remote.getActive("MAIN", "B8001XY").isPresent());
+    }
+
+    static class OnCommitBus implements InvalidationBus {
+
+        private final List<TicketInvalidation> published = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void publish(TicketInvalidation invalidation) {
+            published.add(invalidation);
+        }
+
+        @Override
+        public void subscribe(InvalidationListener listener) {
+        }
+
+        @Override
+        public boolean deliversOnCommit() {
+            return true;
+        }
+    }
+
+    @TestConfiguration
+    static class OnCommitBusConfig {
+
+        @Bean
+        OnCommitBus onCommitBus() {
+            return new OnCommitBus();
+        }
+    }
+}
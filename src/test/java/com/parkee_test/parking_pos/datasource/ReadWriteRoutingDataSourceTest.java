@@ -0,0 +1,163 @@
+package com.parkee_test.parking_pos.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class ReadWriteRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("primary");
+        replica = h2("replica");
+    }
+
+    @Test
+    void readOnlyTransactionShouldUseReplica() {
+        DataSource routing = routing(replica, false);
+
+        assertEquals("replica", query(routing, true));
+    }
+
+    @Test
+    void readWriteTransactionShouldUsePrimary() {
+        DataSource routing = routing(replica, false);
+
+        assertEquals("primary", query(routing, false));
+    }
+
+    @Test
+    void pinnedReadOnlyTransactionShouldUsePrimary() {
+        DataSource routing = routing(replica, false);
+        TransactionTemplate readOnly = new TransactionTemplate(new DataSourceTransactionManager(routing));
+        readOnly.setReadOnly(true);
+
+        String source = readOnly.execute(status -> {
+            PrimaryReadPin.pinCurrentTransaction();
+            return new JdbcTemplate(routing).queryForObject("SELECT source FROM marker", String.class);
+        });
+
+        assertEquals("primary", source);
+        assertFalse(PrimaryReadPin.isPinned());
+    }
+
+    @Test
+    void unreachableReplicaShouldFallBackToPrimaryWhenEnabled() {
+        DataSource broken = new DriverManagerDataSource("jdbc:h2:tcp://localhost:1/unreachable", "sa", "");
+
+        assertEquals("primary", query(routing(broken, true), true));
+    }
+
+    @Test
+    void failedReplicaShouldBeSkippedUntilRetryWindowPasses() {
+        AtomicInteger replicaAttempts = new AtomicInteger();
+        DataSource broken = new DelegatingDataSource(
+                new DriverManagerDataSource("jdbc:h2:tcp://localhost:1/unreachable", "sa", "")) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                replicaAttempts.incrementAndGet();
+                return super.getConnection();
+            }
+        };
+        AtomicLong nanos = new AtomicLong();
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(
+                primary, broken, true, Duration.ofSeconds(10), nanos::get);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        assertEquals("primary", query(dataSource, true));
+        assertEquals("primary", query(dataSource, true));
+        assertEquals(1, replicaAttempts.get());
+        assertTrue(routing.isReplicaMarkedDown());
+
+        nanos.addAndGet(Duration.ofSeconds(11).toNanos());
+
+        assertEquals("primary", query(dataSource, true));
+        assertEquals(2, replicaAttempts.get());
+    }
+
+    @Test
+    void stalenessGuardShouldFlagRecentWritesOnly() {
+        MutableClock clock = new MutableClock(Instant.parse("2025-11-15T10:15:00Z"));
+        ReplicaStalenessGuard guard = new ReplicaStalenessGuard(clock, Duration.ofSeconds(2));
+
+        guard.recordWrite("ABC123");
+
+        assertTrue(guard.isReplicaStale("ABC123"));
+        assertFalse(guard.isReplicaStale("XYZ999"));
+
+        clock.advance(Duration.ofSeconds(3));
+
+        assertFalse(guard.isReplicaStale("ABC123"));
+    }
+
+    private DataSource routing(DataSource replicaTarget, boolean fallbackToPrimary) {
+        return new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, replicaTarget, fallbackToPrimary, Duration.ZERO));
+    }
+
+    private String query(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        template.setReadOnly(readOnly);
+        return template.execute(status -> new JdbcTemplate(dataSource).queryForObject("SELECT source FROM marker", String.class));
+    }
+
+    private DataSource h2(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS marker (source VARCHAR(20))");
+        jdbcTemplate.update("DELETE FROM marker");
+        jdbcTemplate.update("INSERT INTO marker (source) VALUES (?)", name);
+        return dataSource;
+    }
+
+    private static class MutableClock extends Clock {
+
+        private final AtomicLong millis;
+
+        MutableClock(Instant start) {
+            this.millis = new AtomicLong(start.toEpochMilli());
+        }
+
+        void advance(Duration duration) {
+            millis.addAndGet(duration.toMillis());
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis.get());
+        }
+    }
+}
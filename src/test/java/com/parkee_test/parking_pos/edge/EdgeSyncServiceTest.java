@@ -0,0 +1,175 @@
+package com.parkee_test.parking_pos.edge;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+public class EdgeSyncServiceTest {
+
+    private JdbcTemplate local;
+    private JdbcTemplate central;
+    private EdgeSyncService edgeSyncService;
+
+    @BeforeEach
+    void setUp() {
+        DataSource localDataSource = h2("edge_local");
+        DataSource centralDataSource = h2("edge_central");
+        local = new JdbcTemplate(localDataSource);
+        central = new JdbcTemplate(centralDataSource);
+
+        local.execute("""
+                CREATE TABLE tickets (
+                    id BIGINT PRIMARY KEY, plate_number VARCHAR(50) NOT NULL, check_in_time TIMESTAMP NOT NULL,
+                    check_out_time TIMESTAMP, total_price INTEGER, status VARCHAR(20) NOT NULL,
+                    lot_id VARCHAR(50) DEFAULT 'MAIN' NOT NULL, entry_gate VARCHAR(50), exit_gate VARCHAR(50))
+                """);
+        local.execute("""
+                CREATE TABLE ticket_changes (
+                    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, ticket_id BIGINT NOT NULL,
+                    changed_at TIMESTAMP NOT NULL)
+                """);
+        local.execute("CREATE TABLE edge_sync_cursor (id INTEGER PRIMARY KEY, last_change_id BIGINT NOT NULL, synced_at TIMESTAMP)");
+        local.update("INSERT INTO edge_sync_cursor (id, last_change_id) VALUES (1, 0)");
+
+        central.execute("""
+                CREATE TABLE tickets (
+                    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, plate_number VARCHAR(50) NOT NULL,
+                    check_in_time TIMESTAMP NOT NULL, check_out_time TIMESTAMP, total_price INTEGER,
+                    status VARCHAR(20) NOT NULL, origin_node VARCHAR(100), origin_ticket_id BIGINT,
+                    lot_id VARCHAR(50) DEFAULT 'MAIN' NOT NULL, entry_gate VARCHAR(50), exit_gate VARCHAR(50),
+                    CONSTRAINT uq_tickets_origin UNIQUE (origin_node, origin_ticket_id))
+                """);
+        central.execute("""
+                CREATE TABLE ticket_sync_conflicts (
+                    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, plate_number VARCHAR(50) NOT NULL,
+                    origin_node VARCHAR(100) NOT NULL, origin_ticket_id BIGINT NOT NULL,
+                    other_origin_node VARCHAR(100), other_ticket_id BIGINT NOT NULL, detected_at TIMESTAMP NOT NULL,
+                    CONSTRAINT uq_ticket_sync_conflicts_pair UNIQUE (origin_node, origin_ticket_id, other_ticket_id))
+                """);
+
+        EdgeSyncProperties properties = new EdgeSyncProperties();
+        properties.setNodeId("lot-a");
+        Clock clock = Clock.fixed(Instant.parse("2025-11-15T10:15:00Z"), ZoneOffset.UTC);
+        edgeSyncService = new EdgeSyncService(local, new CentralTicketStore(centralDataSource), properties, clock);
+    }
+
+    @Test
+    void syncShouldShipCheckInThenCompletionAndAdvanceCursor() {
+        insertLocalTicket(LocalDateTime.of(2025, 11, 15, 8, 0));
+        recordChange(1L, LocalDateTime.of(2025, 11, 15, 8, 0));
+
+        assertEquals(1, edgeSyncService.syncBatch());
+        assertEquals("ACTIVE", central.queryForObject(
+                "SELECT status FROM tickets WHERE origin_node = 'lot-a' AND origin_ticket_id = 1", String.class));
+
+        local.update("UPDATE tickets SET status = 'COMPLETED', check_out_time = ?, total_price = 9000 WHERE id = 1",
+                LocalDateTime.of(2025, 11, 15, 10, 0));
+        recordChange(1L, LocalDateTime.of(2025, 11, 15, 10, 0));
+
+        assertEquals(1, edgeSyncService.syncBatch());
+        Map<String, Object> shipped = central.queryForMap(
+                "SELECT status, total_price FROM tickets WHERE origin_node = 'lot-a' AND origin_ticket_id = 1");
+        assertEquals("COMPLETED", shipped.get("STATUS"));
+        assertEquals(9000, shipped.get("TOTAL_PRICE"));
+        assertEquals(2L, local.queryForObject("SELECT last_change_id FROM edge_sync_cursor WHERE id = 1", Long.class));
+        assertEquals(0, local.queryForObject("SELECT COUNT(*) FROM ticket_changes", Integer.class));
+        assertEquals(0, edgeSyncService.syncBatch());
+    }
+
+    @Test
+    void syncShouldRecordConflictWhenPlateIsActiveAtAnotherEdge() {
+        central.update("""
+                INSERT INTO tickets (plate_number, check_in_time, status, origin_node, origin_ticket_id)
+                VALUES ('ABC123', ?, 'ACTIVE', 'lot-b', 7)
+                """, LocalDateTime.of(2025, 11, 15, 7, 0));
+        insertLocalTicket(LocalDateTime.of(2025, 11, 15, 8, 0));
+        recordChange(1L, LocalDateTime.of(2025, 11, 15, 8, 0));
+
+        edgeSyncService.syncBatch();
+
+        assertEquals(2, central.queryForObject(
+                "SELECT COUNT(*) FROM tickets WHERE plate_number = 'ABC123' AND status = 'ACTIVE'", Integer.class));
+        assertEquals("lot-b", central.queryForObject(
+                "SELECT other_origin_node FROM ticket_sync_conflicts WHERE origin_node = 'lot-a' AND origin_ticket_id = 1",
+                String.class));
+    }
+
+    @Test
+    void syncShouldRecordConflictOnceWhenPushIsRetried() {
+        central.update("""
+                INSERT INTO tickets (plate_number, check_in_time, status, origin_node, origin_ticket_id)
+                VALUES ('ABC123', ?, 'ACTIVE', 'lot-b', 7)
+                """, LocalDateTime.of(2025, 11, 15, 7, 0));
+        insertLocalTicket(LocalDateTime.of(2025, 11, 15, 8, 0));
+        recordChange(1L, LocalDateTime.of(2025, 11, 15, 8, 0));
+
+        edgeSyncService.syncBatch();
+        // The edge lost the reply and ships the same change again.
+        recordChange(1L, LocalDateTime.of(2025, 11, 15, 8, 0));
+        edgeSyncService.syncBatch();
+
+        assertEquals(1, central.queryForObject("SELECT COUNT(*) FROM ticket_sync_conflicts", Integer.class));
+    }
+
+    @Test
+    void syncShouldShipChangeThatCommitsWithLowerIdAfterLaterOneWasShipped() {
+        insertLocalTicket(LocalDateTime.of(2025, 11, 15, 8, 0));
+        local.update("INSERT INTO tickets (id, plate_number, check_in_time, status) VALUES (2, 'XYZ999', ?, 'ACTIVE')",
+                LocalDateTime.of(2025, 11, 15, 8, 5));
+        local.update("INSERT INTO ticket_changes (id, ticket_id, changed_at) VALUES (6, 2, ?)",
+                LocalDateTime.of(2025, 11, 15, 8, 5));
+
+        assertEquals(1, edgeSyncService.syncBatch());
+
+        // Change 5 was allocated first but its transaction commits only now.
+        local.update("INSERT INTO ticket_changes (id, ticket_id, changed_at) VALUES (5, 1, ?)",
+                LocalDateTime.of(2025, 11, 15, 8, 0));
+
+        assertEquals(1, edgeSyncService.syncBatch());
+        assertEquals(2, central.queryForObject("SELECT COUNT(*) FROM tickets WHERE origin_node = 'lot-a'", Integer.class));
+        assertEquals(0, local.queryForObject("SELECT COUNT(*) FROM ticket_changes", Integer.class));
+    }
+
+    @Test
+    void syncShouldNotRecordConflictWhenPlateIsActiveInAnotherLot() {
+        central.update("""
+                INSERT INTO tickets (lot_id, plate_number, check_in_time, status, origin_node, origin_ticket_id)
+                VALUES ('NORTH', 'ABC123', ?, 'ACTIVE', 'lot-b', 7)
+                """, LocalDateTime.of(2025, 11, 15, 7, 0));
+        insertLocalTicket(LocalDateTime.of(2025, 11, 15, 8, 0));
+        recordChange(1L, LocalDateTime.of(2025, 11, 15, 8, 0));
+
+        edgeSyncService.syncBatch();
+
+        assertEquals("MAIN", central.queryForObject(
+                "SELECT lot_id FROM tickets WHERE origin_node = 'lot-a' AND origin_ticket_id = 1", String.class));
+        assertEquals(0, central.queryForObject("SELECT COUNT(*) FROM ticket_sync_conflicts", Integer.class));
+    }
+
+    private void insertLocalTicket(LocalDateTime checkInTime) {
+        local.update("INSERT INTO tickets (id, plate_number, check_in_time, status) VALUES (1, 'ABC123', ?, 'ACTIVE')",
+                checkInTime);
+    }
+
+    private void recordChange(Long ticketId, LocalDateTime changedAt) {
+        local.update("INSERT INTO ticket_changes (ticket_id, changed_at) VALUES (?, ?)", ticketId, changedAt);
+    }
+
+    private DataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        return dataSource;
+    }
+}
@@ -0,0 +1,83 @@
+package com.parkee_test.parking_pos.importer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.parkee_test.parking_pos.entity.TicketStatus;
+
+public class JdbcTicketBatchWriterTest {
+
+    private static final LocalDateTime CHECK_IN = LocalDateTime.of(2025, 11, 15, 8, 0);
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcTicketBatchWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:import_writer;MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        jdbcTemplate.execute("""
+                CREATE TABLE tickets (
+                    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, lot_id VARCHAR(50) DEFAULT 'MAIN' NOT NULL,
+                    plate_number VARCHAR(50) NOT NULL, check_in_time TIMESTAMP NOT NULL, check_out_time TIMESTAMP,
+                    total_price INTEGER, status VARCHAR(20) NOT NULL)
+                """);
+        writer = new JdbcTicketBatchWriter(jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+        // The importer always reads the checkpoint first, which creates import_checkpoints.
+        assertEquals(0, writer.lastCommittedLine("legacy.csv"));
+    }
+
+    @Test
+    void writeShouldInsertBatchAndCheckpointTogether() {
+        writer.write("legacy.csv", List.of(
+                new ImportedTicket("MAIN", "A1", CHECK_IN, CHECK_IN.plusHours(1), 3000, TicketStatus.COMPLETED),
+                new ImportedTicket("NORTH", "A2", CHECK_IN, null, null, TicketStatus.ACTIVE)), 3);
+        writer.write("legacy.csv", List.of(), 5);
+
+        assertEquals(5, writer.lastCommittedLine("legacy.csv"));
+        assertEquals(0, writer.lastCommittedLine("other.csv"));
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tickets", Integer.class));
+        assertEquals(3000, jdbcTemplate.queryForObject("SELECT total_price FROM tickets WHERE plate_number = 'A1'",
+                Integer.class));
+    }
+
+    @Test
+    void activeLotPlatesShouldListOnlyActiveTickets() {
+        writer.write("legacy.csv", List.of(
+                new ImportedTicket("MAIN", "A1", CHECK_IN, CHECK_IN.plusHours(1), 3000, TicketStatus.COMPLETED),
+                new ImportedTicket("NORTH", "A2", CHECK_IN, null, null, TicketStatus.ACTIVE)), 3);
+
+        assertEquals(Set.of("NORTH/A2"), writer.activeLotPlates());
+    }
+
+    @Test
+    void batchRejectedByActivePlateIndexShouldLeaveCheckpointUntouched() {
+        // Stands in for the partial index uq_tickets_active_lot_plate, which H2 cannot express.
+        jdbcTemplate.execute("CREATE UNIQUE INDEX uq_tickets_active_lot_plate ON tickets (lot_id, plate_number)");
+        writer.write("legacy.csv", List.of(
+                new ImportedTicket("MAIN", "A1", CHECK_IN, null, null, TicketStatus.ACTIVE)), 2);
+
+        assertThrows(DuplicateKeyException.class, () -> writer.write("legacy.csv", List.of(
+                new ImportedTicket("MAIN", "B1", CHECK_IN, null, null, TicketStatus.ACTIVE),
+                new ImportedTicket("MAIN", "A1", CHECK_IN, null, null, TicketStatus.ACTIVE)), 4));
+
+        assertEquals(2, writer.lastCommittedLine("legacy.csv"));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tickets", Integer.class));
+    }
+}
@@ -0,0 +1,161 @@
+package com.parkee_test.parking_pos.importer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.parkee_test.parking_pos.entity.TicketStatus;
+import com.parkee_test.parking_pos.lot.LotRouting;
+import com.parkee_test.parking_pos.service.ParkingFeeCalculator;
+
+public class TicketCsvImporterTest {
+
+    private static final String HEADER = "plate_number,check_in_time,check_out_time,total_price";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void importShouldWriteValidRowsAndReportRejectedOnes() throws Exception {
+        Path csv = write("legacy.csv",
+                HEADER,
+                "b1234de,2025-11-15 09:30:00,2025-11-15 10:45:00,6000",
+                ",2025-11-15 09:30:00,,",
+                "D555XY,2025-11-15 08:00:00,2025-11-15 08:20:00,",
+                "E777AB,2025-11-15 08:00:00,2025-11-15 07:00:00,3000",
+                "F1,2025-11-15 08:00:00,,",
+                "F1,2025-11-15 09:00:00,,",
+                "F1,2025-11-15 09:00:00,,,north",
+                "G2,not-a-time,,");
+        InMemoryWriter writer = new InMemoryWriter();
+
+        ImportSummary summary = importer(writer, 2).importFile(csv, tempDir.resolve("rejected.csv"));
+
+        assertEquals(4, summary.getImported());
+        assertEquals(4, summary.getRejected());
+        assertEquals(List.of("B1234DE", "D555XY", "F1", "F1"), writer.plates());
+        assertEquals(3000, writer.tickets.get(1).getTotalPrice());
+        assertEquals(TicketStatus.ACTIVE, writer.tickets.get(2).getStatus());
+        assertEquals("MAIN", writer.tickets.get(2).getLotId());
+        assertEquals("NORTH", writer.tickets.get(3).getLotId());
+        assertEquals(9, writer.lastCommittedLine("legacy.csv"));
+
+        List<String> rejected = Files.readAllLines(tempDir.resolve("rejected.csv"));
+        assertEquals(4, rejected.size());
+        assertTrue(rejected.get(0).startsWith("3,\"Plate number is required\""));
+        assertTrue(rejected.get(1).startsWith("5,\"Check-out time must be after check-in time\""));
+        assertTrue(rejected.get(2).startsWith("7,\"Vehicle already checked in\""));
+        assertTrue(rejected.get(3).startsWith("9,\"Invalid timestamp"));
+    }
+
+    @Test
+    void importShouldResumeAfterLastCommittedBatch() throws Exception {
+        Path csv = write("resume.csv",
+                HEADER,
+                "A1,2025-11-15 08:00:00,2025-11-15 09:00:00,3000",
+                "A2,2025-11-15 08:00:00,2025-11-15 09:00:00,3000",
+                "A3,2025-11-15 08:00:00,2025-11-15 09:00:00,3000",
+                ",2025-11-15 08:00:00,2025-11-15 09:00:00,3000",
+                "A4,2025-11-15 08:00:00,2025-11-15 09:00:00,3000",
+                "A5,2025-11-15 08:00:00,2025-11-15 09:00:00,3000");
+        InMemoryWriter writer = new InMemoryWriter();
+        writer.failAfterBatches = 1;
+
+        assertThrows(IllegalStateException.class,
+                () -> importer(writer, 2).importFile(csv, tempDir.resolve("resume.rejected.csv")));
+        assertEquals(List.of("A1", "A2"), writer.plates());
+        assertEquals(3, writer.lastCommittedLine("resume.csv"));
+
+        writer.failAfterBatches = Integer.MAX_VALUE;
+        ImportSummary summary = importer(writer, 2).importFile(csv, tempDir.resolve("resume.rejected.csv"));
+
+        assertEquals(3, summary.getResumedAfterLine());
+        assertEquals(3, summary.getImported());
+        assertEquals(List.of("A1", "A2", "A3", "A4", "A5"), writer.plates());
+        // The failed batch's rejected row is reported once, by the run that committed it.
+        assertEquals(List.of("5,\"Plate number is required\",,2025-11-15 08:00:00,2025-11-15 09:00:00,3000"),
+                Files.readAllLines(tempDir.resolve("resume.rejected.csv")));
+    }
+
+    @Test
+    void importShouldRejectPlateAlreadyActiveInDatabase() throws Exception {
+        Path csv = write("active.csv",
+                HEADER,
+                "A1,2025-11-15 08:00:00,,",
+                "A1,2025-11-15 08:00:00,,,north");
+        InMemoryWriter writer = new InMemoryWriter();
+        writer.tickets.add(new ImportedTicket("MAIN", "A1", LocalDateTime.of(2025, 11, 15, 7, 0), null, null,
+                TicketStatus.ACTIVE));
+
+        ImportSummary summary = importer(writer, 2).importFile(csv, tempDir.resolve("active.rejected.csv"));
+
+        assertEquals(1, summary.getImported());
+        assertEquals(1, summary.getRejected());
+        assertEquals("NORTH", writer.tickets.get(1).getLotId());
+    }
+
+    @Test
+    void splitCsvShouldHonourQuotedCommas() {
+        assertArrayEquals(new String[] {"B 12,34", "2025-11-15 09:30:00", "", "say \"hi\""},
+                TicketCsvImporter.splitCsv("\"B 12,34\",2025-11-15 09:30:00,,\"say \"\"hi\"\"\""));
+    }
+
+    private TicketCsvImporter importer(InMemoryWriter writer, int batchSize) {
+        ParkingFeeCalculator calculator = new ParkingFeeCalculator();
+        LotRouting lotRouting = new LotRouting("MAIN", null, List.of());
+        return new TicketCsvImporter(writer,
+                existingActive -> new TicketImportValidator(calculator, lotRouting, existingActive), batchSize, 2);
+    }
+
+    private Path write(String name, String... lines) throws IOException {
+        return Files.write(tempDir.resolve(name), List.of(lines));
+    }
+
+    private static class InMemoryWriter implements TicketBatchWriter {
+
+        private final List<ImportedTicket> tickets = new ArrayList<>();
+        private final Map<String, Long> checkpoints = new HashMap<>();
+        private int failAfterBatches = Integer.MAX_VALUE;
+        private int batches;
+
+        @Override
+        public long lastCommittedLine(String source) {
+            return checkpoints.getOrDefault(source, 0L);
+        }
+
+        @Override
+        public Set<String> activeLotPlates() {
+            return tickets.stream()
+                    .filter(ticket -> ticket.getStatus() == TicketStatus.ACTIVE)
+                    .map(ticket -> TicketImportValidator.activeKey(ticket.getLotId(), ticket.getPlateNumber()))
+                    .collect(Collectors.toSet());
+        }
+
+        @Override
+        public void write(String source, List<ImportedTicket> batch, long lastLine) {
+            if (batches++ >= failAfterBatches) {
+                throw new IllegalStateException("connection lost");
+            }
+            tickets.addAll(batch);
+            checkpoints.put(source, lastLine);
+        }
+
+        private List<String> plates() {
+            return tickets.stream().map(ImportedTicket::getPlateNumber).toList();
+        }
+    }
+}
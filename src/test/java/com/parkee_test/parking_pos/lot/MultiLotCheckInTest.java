@@ -0,0 +1,162 @@
+package com.parkee_test.parking_pos.lot;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.parkee_test.parking_pos.cache.ActiveTicketCache;
+import com.parkee_test.parking_pos.datasource.ReplicaStalenessGuard;
+import com.parkee_test.parking_pos.entity.Ticket;
+import com.parkee_test.parking_pos.repository.InMemoryTicketStore;
+import com.parkee_test.parking_pos.service.CheckInResult;
+import com.parkee_test.parking_pos.service.ConfirmCheckOutResult;
+import com.parkee_test.parking_pos.service.ParkingFeeCalculator;
+import com.parkee_test.parking_pos.service.TicketService;
+import com.parkee_test.parking_pos.shift.ShiftAggregate;
+import com.parkee_test.parking_pos.shift.ShiftLedger;
+
+public class MultiLotCheckInTest {
+
+    private static final int LOTS = 16;
+    private static final int PLATES_PER_LOT = 20;
+    private static final int ATTEMPTS_PER_PLATE = 4;
+
+    private final InMemoryTicketStore store = new InMemoryTicketStore();
+    private Clock clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = Clock.fixed(Instant.parse("2025-11-15T10:15:00Z"), ZoneOffset.UTC);
+    }
+
+    @Test
+    void concurrentCheckInsShouldKeepOneActiveTicketPerPlateInEachLot() throws Exception {
+        TicketService ticketService = ticketService(new LotRouting("MAIN", null, List.of()));
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<CheckInResult>> results = new ArrayList<>();
+        try {
+            for (int attempt = 0; attempt < ATTEMPTS_PER_PLATE; attempt++) {
+                for (int plate = 0; plate < PLATES_PER_LOT; plate++) {
+                    for (int lot = 0; lot < LOTS; lot++) {
+                        String lotId = "lot-" + lot;
+                        String plateNumber = "B" + plate + "XY";
+                        String gateId = "gate-" + attempt;
+                        results.add(executor.submit(() -> {
+                            start.await();
+                            return ticketService.checkIn(lotId, gateId, plateNumber);
+                        }));
+                    }
+                }
+            }
+            start.countDown();
+
+            int created = 0;
+            for (Future<CheckInResult> result : results) {
+                CheckInResult checkIn = result.get(30, TimeUnit.SECONDS);
+                if (checkIn.isSuccess()) {
+                    created++;
+                } else {
+                    assertEquals("Vehicle already checked in", checkIn.getError());
+                }
+            }
+
+            assertEquals(LOTS * PLATES_PER_LOT, created);
+            Map<String, Integer> activePerLotPlate = new HashMap<>();
+            for (Ticket ticket : store.tickets()) {
+                activePerLotPlate.merge(ticket.getLotId() + "/" + ticket.getPlateNumber(), 1, Integer::sum);
+            }
+            assertEquals(LOTS * PLATES_PER_LOT, activePerLotPlate.size());
+            assertTrue(activePerLotPlate.values().stream().allMatch(count -> count == 1));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void checkOutShouldFreePlateOnlyInItsOwnLot() {
+        TicketService ticketService = ticketService(new LotRouting("MAIN", null, List.of()));
+
+        CheckInResult north = ticketService.checkIn("north", "n1", "B1XY");
+        CheckInResult south = ticketService.checkIn("south", "s1", "B1XY");
+        assertTrue(north.isSuccess());
+        assertTrue(south.isSuccess());
+        assertEquals("NORTH", north.getTicket().getLotId());
+
+        ConfirmCheckOutResult confirm = ticketService.confirmCheckOut(north.getTicket().getId(), "n2", null, null);
+        assertTrue(confirm.isSuccess());
+        assertEquals("n2", confirm.getTicket().getExitGate());
+
+        assertTrue(ticketService.checkIn("north", "n1", "B1XY").isSuccess());
+        assertEquals("Vehicle already checked in", ticketService.checkIn("south", "s1", "B1XY").getError());
+    }
+
+    @Test
+    void lotsShouldBeOwnedByExactlyOneNode() {
+        List<String> nodes = List.of("node-a", "node-b", "node-c");
+        Map<String, LotRouting> routings = new HashMap<>();
+        for (String node : nodes) {
+            routings.put(node, new LotRouting("MAIN", node, nodes));
+        }
+        LotRouting withoutC = new LotRouting("MAIN", "node-a", List.of("node-a", "node-b"));
+
+        Map<String, Integer> owned = new HashMap<>();
+        for (int lot = 0; lot < 3000; lot++) {
+            String lotId = "LOT-" + lot;
+            String owner = routings.get("node-a").ownerOf(lotId);
+            int localCount = 0;
+            for (String node : nodes) {
+                assertEquals(owner, routings.get(node).ownerOf(lotId));
+                localCount += routings.get(node).isLocal(lotId) ? 1 : 0;
+            }
+            assertEquals(1, localCount);
+            owned.merge(owner, 1, Integer::sum);
+            if (!owner.equals("node-c")) {
+                assertEquals(owner, withoutC.ownerOf(lotId));
+            }
+        }
+        assertTrue(owned.values().stream().allMatch(count -> count > 800), owned.toString());
+    }
+
+    @Test
+    void checkInShouldBeRejectedForLotOwnedByAnotherNode() {
+        List<String> nodes = List.of("node-a", "node-b");
+        LotRouting routing = new LotRouting("MAIN", "node-a", nodes);
+        String foreignLot = "LOT-0";
+        for (int lot = 0; routing.isLocal(foreignLot); lot++) {
+            foreignLot = "LOT-" + lot;
+        }
+        TicketService ticketService = ticketService(routing);
+
+        CheckInResult result = ticketService.checkIn(foreignLot, "g1", "B1XY");
+
+        assertFalse(result.isSuccess());
+        assertEquals("Lot is served by another node", result.getError());
+        assertTrue(store.isEmpty());
+    }
+
+    private TicketService ticketService(LotRouting lotRouting) {
+        return new TicketService(store.repository(), new ParkingFeeCalculator(), clock,
+                new ReplicaStalenessGuard(clock, Duration.ofSeconds(2)), mock(ApplicationEventPublisher.class),
+                lotRouting, new ActiveVehicleRegistry(), new ActiveTicketCache(Duration.ofSeconds(30), 1000),
+                new ShiftLedger(shiftId -> ShiftLedger.openTotals(null, ShiftAggregate.empty()), 1000));
+    }
+}
@@ -0,0 +1,84 @@
+package com.parkee_test.parking_pos.repository;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.parkee_test.parking_pos.entity.Ticket;
+import com.parkee_test.parking_pos.entity.TicketStatus;
+
+// Mocked TicketRepository over a map. Rows are copied in and out like a database, and every update bumps the version.
+public class InMemoryTicketStore {
+
+    private final Map<Long, Ticket> tickets = new ConcurrentHashMap<>();
+    private final AtomicLong ids = new AtomicLong();
+    private final TicketRepository repository = mock(TicketRepository.class);
+
+    public InMemoryTicketStore() {
+        when(repository.findByLotIdAndPlateNumberAndStatus(anyString(), anyString(), eq(TicketStatus.ACTIVE)))
+                .thenAnswer(invocation -> {
+                    String lotId = invocation.getArgument(0);
+                    String plateNumber = invocation.getArgument(1);
+                    Optional<Ticket> found = tickets.values().stream()
+                            .filter(ticket -> ticket.getLotId().equals(lotId)
+                                    && ticket.getPlateNumber().equals(plateNumber)
+                                    && ticket.getStatus() == TicketStatus.ACTIVE)
+                            .findFirst()
+                            .map(InMemoryTicketStore::copy);
+                    // Widen the read-then-act window so races between callers show up.
+                    Thread.sleep(1);
+                    return found;
+                });
+        when(repository.findByIdForUpdate(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable(tickets.get(invocation.<Long>getArgument(0)))
+                        .map(InMemoryTicketStore::copy));
+        when(repository.save(any(Ticket.class))).thenAnswer(invocation -> {
+            Ticket ticket = copy(invocation.getArgument(0));
+            if (ticket.getId() == null) {
+                ticket.setId(ids.incrementAndGet());
+            } else {
+                ticket.setVersion(ticket.getVersion() + 1);
+            }
+            tickets.put(ticket.getId(), ticket);
+            return copy(ticket);
+        });
+    }
+
+    public TicketRepository repository() {
+        return repository;
+    }
+
+    public Collection<Ticket> tickets() {
+        return tickets.values();
+    }
+
+    public boolean isEmpty() {
+        return tickets.isEmpty();
+    }
+
+    public static Ticket copy(Ticket ticket) {
+        return Ticket.builder()
+                .id(ticket.getId())
+                .version(ticket.getVersion())
+                .lotId(ticket.getLotId())
+                .entryGate(ticket.getEntryGate())
+                .exitGate(ticket.getExitGate())
+                .shiftId(ticket.getShiftId())
+                .cashierId(ticket.getCashierId())
+                .plateNumber(ticket.getPlateNumber())
+                .checkInTime(ticket.getCheckInTime())
+                .checkOutTime(ticket.getCheckOutTime())
+                .totalPrice(ticket.getTotalPrice())
+                .status(ticket.getStatus())
+                .build();
+    }
+}
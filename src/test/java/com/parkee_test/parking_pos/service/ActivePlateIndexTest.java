@@ -0,0 +1,90 @@
+package com.parkee_test.parking_pos.service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.parkee_test.parking_pos.config.CacheConfig;
+import com.parkee_test.parking_pos.config.DataSourceRoutingConfig;
+import com.parkee_test.parking_pos.config.LotConfig;
+import com.parkee_test.parking_pos.config.ShiftConfig;
+import com.parkee_test.parking_pos.config.TimeConfig;
+import com.parkee_test.parking_pos.repository.TicketRepository;
+
+// H2 has no partial indexes. A generated column that is NULL outside the index predicate, with a unique index under
+// the production name, enforces the same rule: COMPLETED and edge-synced rows never collide.
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TicketService.class, ParkingFeeCalculator.class, TimeConfig.class, LotConfig.class, CacheConfig.class,
+    DataSourceRoutingConfig.class, ShiftConfig.class})
+public class ActivePlateIndexTest {
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoSpyBean
+    private TicketRepository ticketRepository;
+
+    @BeforeEach
+    void createPartialIndex() {
+        jdbcTemplate.execute("""
+                ALTER TABLE tickets ADD COLUMN active_lot_plate VARCHAR(101) GENERATED ALWAYS AS
+                    (CASE WHEN status = 'ACTIVE' AND origin_node IS NULL THEN lot_id || '/' || plate_number END)
+                """);
+        jdbcTemplate.execute("CREATE UNIQUE INDEX uq_tickets_active_lot_plate ON tickets (active_lot_plate)");
+    }
+
+    @AfterEach
+    void dropPartialIndex() {
+        jdbcTemplate.execute("DROP INDEX uq_tickets_active_lot_plate");
+        jdbcTemplate.execute("ALTER TABLE tickets DROP COLUMN active_lot_plate");
+    }
+
+    @Test
+    void checkInRejectedByActivePlateIndexShouldReportDuplicateAndRollBack() {
+        insert("B9001XY", "ACTIVE", null);
+        // Lose the race: the lookup ran before the other ACTIVE row committed.
+        doReturn(Optional.empty()).when(ticketRepository).findByLotIdAndPlateNumberAndStatus(any(), any(), any());
+
+        CheckInResult result = ticketService.checkIn("MAIN", "g1", "B9001XY");
+
+        assertFalse(result.isSuccess());
+        assertEquals("Vehicle already checked in", result.getError());
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tickets WHERE plate_number = 'B9001XY' AND status = 'ACTIVE'", Integer.class));
+    }
+
+    @Test
+    void completedAndEdgeSyncedRowsShouldNotTripActivePlateIndex() {
+        insert("B9002XY", "COMPLETED", null);
+        insert("B9002XY", "ACTIVE", "edge-1");
+        doReturn(Optional.empty()).when(ticketRepository).findByLotIdAndPlateNumberAndStatus(any(), any(), any());
+
+        assertTrue(ticketService.checkIn("MAIN", "g1", "B9002XY").isSuccess());
+    }
+
+    private void insert(String plateNumber, String status, String originNode) {
+        jdbcTemplate.update("""
+                INSERT INTO tickets (lot_id, plate_number, check_in_time, status, origin_node, version)
+                VALUES ('MAIN', ?, ?, ?, ?, 0)
+                """, plateNumber, LocalDateTime.of(2025, 11, 15, 8, 0), status, originNode);
+    }
+}
@@ -0,0 +1,262 @@
+package com.parkee_test.parking_pos.service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.parkee_test.parking_pos.archive.TicketArchiveRepository;
+import com.parkee_test.parking_pos.config.CacheConfig;
+import com.parkee_test.parking_pos.config.DataSourceRoutingConfig;
+import com.parkee_test.parking_pos.config.LotConfig;
+import com.parkee_test.parking_pos.config.ShiftConfig;
+import com.parkee_test.parking_pos.entity.Ticket;
+import com.parkee_test.parking_pos.entity.TicketStatus;
+import com.parkee_test.parking_pos.repository.TicketRepository;
+
+// Each worker draws its operations from a seeded Random, so a failing run can be replayed with -Dstress.seed=<seed>.
+// Thread scheduling still varies between runs; the invariants must hold for every interleaving.
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:stress;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.datasource.hikari.maximum-pool-size=32"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TicketService.class, ShiftService.class, TicketArchiveRepository.class, ParkingFeeCalculator.class, LotConfig.class, CacheConfig.class,
+    DataSourceRoutingConfig.class, ShiftConfig.class, TicketLifecycleStressTest.SteppingClockConfig.class})
+public class TicketLifecycleStressTest {
+
+    private static final long SEED = Long.getLong("stress.seed", 20251115L);
+    private static final int OPS_PER_WORKER = Integer.getInteger("stress.ops", 300);
+    private static final int PLATES = 8;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private ShiftService shiftService;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private ParkingFeeCalculator parkingFeeCalculator;
+
+    @Test
+    void lifecycleInvariantsShouldHoldAcrossWorkerCounts(TestReporter reporter) throws Exception {
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int workers : new TreeSet<>(List.of(1, 2, cores, cores * 2))) {
+            RoundResult round = runRound("STRESS-" + workers, workers);
+            reporter.publishEntry("round-" + workers, String.format("seed=%d workers=%d ops=%d elapsed=%d ms "
+                    + "throughput=%.0f ops/s (checkIn ok=%d, confirm ok=%d)",
+                    SEED, workers, round.operations, round.elapsedMillis(), round.throughput(),
+                    round.checkIns.get(), round.confirms.get()));
+            assertInvariants("STRESS-" + workers, round);
+        }
+    }
+
+    private RoundResult runRound(String lot, int workers) throws Exception {
+        RoundResult round = new RoundResult(workers * OPS_PER_WORKER);
+        Map<String, Long> knownTickets = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int w = 0; w < workers; w++) {
+                Random random = new Random(SEED * 31 + workers * 1009L + w);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < OPS_PER_WORKER; i++) {
+                        String plate = "B" + random.nextInt(PLATES) + "STR";
+                        int op = random.nextInt(10);
+                        if (op < 4) {
+                            checkIn(lot, plate, knownTickets, round);
+                        } else if (op < 7) {
+                            preview(lot, plate, knownTickets, round);
+                        } else {
+                            confirm(knownTickets.get(plate), "SHIFT-" + lot, round);
+                        }
+                        if (random.nextInt(4) == 0) {
+                            Thread.yield();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            long started = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.MINUTES);
+            }
+            round.elapsedNanos = System.nanoTime() - started;
+        } finally {
+            executor.shutdownNow();
+        }
+        return round;
+    }
+
+    private void checkIn(String lot, String plate, Map<String, Long> knownTickets, RoundResult round) {
+        CheckInResult result = ticketService.checkIn(lot, "g1", plate);
+        if (result.isSuccess()) {
+            round.checkIns.incrementAndGet();
+            knownTickets.put(plate, result.getTicket().getId());
+        } else {
+            expectError("Vehicle already checked in", result.getError());
+        }
+    }
+
+    private void preview(String lot, String plate, Map<String, Long> knownTickets, RoundResult round) {
+        CheckOutPreviewResult result = ticketService.checkOutPreview(lot, plate);
+        if (result.isSuccess()) {
+            knownTickets.put(plate, result.getTicketId());
+        } else {
+            expectError("Active ticket not found", result.getError());
+        }
+    }
+
+    private void confirm(Long ticketId, String shiftId, RoundResult round) {
+        if (ticketId == null) {
+            return;
+        }
+        ConfirmCheckOutResult result = ticketService.confirmCheckOut(ticketId, "g2", shiftId, "cashier-1");
+        if (result.isSuccess()) {
+            round.confirms.incrementAndGet();
+            round.payments.computeIfAbsent(ticketId, id -> new CopyOnWriteArrayList<>())
+                    .add(result.getTicket().getTotalPrice());
+        } else {
+            expectError("Ticket is not active", result.getError());
+        }
+    }
+
+    private static void expectError(String expected, String actual) {
+        if (!expected.equals(actual)) {
+            fail("Unexpected result: " + actual + " (seed " + SEED + ")");
+        }
+    }
+
+    private void assertInvariants(String lot, RoundResult round) {
+        List<Ticket> tickets = ticketRepository.findAll().stream()
+                .filter(ticket -> ticket.getLotId().equals(lot))
+                .toList();
+
+        Map<String, Integer> activePerPlate = new HashMap<>();
+        for (Ticket ticket : tickets) {
+            if (ticket.getStatus() == TicketStatus.ACTIVE) {
+                activePerPlate.merge(ticket.getPlateNumber(), 1, Integer::sum);
+                assertFalse(round.payments.containsKey(ticket.getId()), "Paid ticket still ACTIVE: " + ticket.getId());
+                continue;
+            }
+            List<Integer> paid = round.payments.get(ticket.getId());
+            assertEquals(1, paid == null ? 0 : paid.size(), "Ticket " + ticket.getId() + " paid " + paid);
+            assertEquals(ticket.getTotalPrice(), paid.get(0));
+            assertEquals(parkingFeeCalculator.calculateFee(ticket.getCheckInTime(), ticket.getCheckOutTime()).getFee(),
+                    ticket.getTotalPrice());
+        }
+        assertTrue(activePerPlate.values().stream().allMatch(count -> count == 1), activePerPlate.toString());
+        assertEquals(round.checkIns.get(), tickets.size());
+        assertEquals(round.confirms.get(), tickets.size() - activePerPlate.size());
+
+        if (round.confirms.get() > 0) {
+            ShiftCloseResult closed = shiftService.closeShift("SHIFT-" + lot);
+            assertTrue(closed.isSuccess(), closed.getError());
+            assertEquals(round.confirms.get(), closed.getSummary().getTicketCount());
+            assertEquals(round.payments.values().stream().mapToLong(paid -> paid.get(0)).sum(),
+                    closed.getSummary().getTotalAmount());
+            assertTrue(shiftService.auditShift("SHIFT-" + lot).isConsistent());
+        }
+    }
+
+    private static class RoundResult {
+
+        private final int operations;
+        private final AtomicLong checkIns = new AtomicLong();
+        private final AtomicLong confirms = new AtomicLong();
+        private final Map<Long, List<Integer>> payments = new ConcurrentHashMap<>();
+        private long elapsedNanos;
+
+        RoundResult(int operations) {
+            this.operations = operations;
+        }
+
+        long elapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        }
+
+        double throughput() {
+            return operations / (elapsedNanos / 1_000_000_000.0);
+        }
+    }
+
+    @TestConfiguration
+    static class SteppingClockConfig {
+
+        // Every reading moves time forward by seven minutes, so fees vary between tickets.
+        @Bean
+        Clock clock() {
+            return new SteppingClock(Instant.parse("2025-11-15T00:00:00Z"), ZoneOffset.UTC);
+        }
+    }
+
+    private static class SteppingClock extends Clock {
+
+        private static final long STEP_MILLIS = TimeUnit.MINUTES.toMillis(7);
+
+        private final AtomicLong millis;
+        private final ZoneId zone;
+
+        SteppingClock(Instant start, ZoneId zone) {
+            this(new AtomicLong(start.toEpochMilli()), zone);
+        }
+
+        private SteppingClock(AtomicLong millis, ZoneId zone) {
+            this.millis = millis;
+            this.zone = zone;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new SteppingClock(millis, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis.addAndGet(STEP_MILLIS));
+        }
+    }
+}
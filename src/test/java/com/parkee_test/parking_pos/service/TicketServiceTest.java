@@ -1,15 +1,19 @@
 package com.parkee_test.parking_pos.service;
 
+import java.sql.SQLException;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,10 +25,18 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import com.parkee_test.parking_pos.cache.ActiveTicketCache;
+import com.parkee_test.parking_pos.datasource.ReplicaStalenessGuard;
 import com.parkee_test.parking_pos.entity.Ticket;
 import com.parkee_test.parking_pos.entity.TicketStatus;
+import com.parkee_test.parking_pos.lot.ActiveVehicleRegistry;
+import com.parkee_test.parking_pos.lot.LotRouting;
 import com.parkee_test.parking_pos.repository.TicketRepository;
+import com.parkee_test.parking_pos.shift.ShiftAggregate;
+import com.parkee_test.parking_pos.shift.ShiftLedger;
 
 @ExtendWith(MockitoExtension.class)
 public class TicketServiceTest {
@@ -35,21 +47,30 @@ public class TicketServiceTest {
     @Mock
     private ParkingFeeCalculator parkingFeeCalculator;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private TicketService ticketService;
 
+    private ShiftLedger shiftLedger;
+
     private Clock fixedClock;
 
     @BeforeEach
     void setUp() {
         fixedClock = Clock.fixed(Instant.parse("2025-11-15T10:15:00z"), ZoneOffset.UTC);
-        ticketService = new TicketService(ticketRepository, parkingFeeCalculator, fixedClock);
+        shiftLedger = new ShiftLedger(shiftId -> ShiftLedger.openTotals(null, ShiftAggregate.empty()), 1000);
+        ticketService = new TicketService(ticketRepository, parkingFeeCalculator, fixedClock,
+                new ReplicaStalenessGuard(fixedClock, Duration.ofSeconds(2)), eventPublisher,
+                new LotRouting("MAIN", null, List.of()), new ActiveVehicleRegistry(),
+                new ActiveTicketCache(Duration.ofSeconds(30), 1000), shiftLedger);
     }
 
     @Test
     void checkInShouldCreateActiveTicketWhenNonActiveTicketExist() {
         String plateNumber = "ABC123";
 
-        when(ticketRepository.findByPlateNumberAndStatus(plateNumber, TicketStatus.ACTIVE)).thenReturn(Optional.empty());
+        when(ticketRepository.findByLotIdAndPlateNumberAndStatus("MAIN", plateNumber, TicketStatus.ACTIVE)).thenReturn(Optional.empty());
 
         when(ticketRepository.save(any(Ticket.class))).thenAnswer(invocation -> {
             Ticket ticket = invocation.getArgument(0);
@@ -57,7 +78,7 @@ public class TicketServiceTest {
             return ticket;
         });
 
-        CheckInResult checkInResult = ticketService.checkIn(plateNumber);
+        CheckInResult checkInResult = ticketService.checkIn(null, null, plateNumber);
 
         assertTrue(checkInResult.isSuccess());
         assertNull(checkInResult.getError());
@@ -68,13 +89,13 @@ public class TicketServiceTest {
         assertEquals(LocalDateTime.ofInstant(fixedClock.instant(), fixedClock.getZone()),
                 checkInResult.getTicket().getCheckInTime());
 
-        verify(ticketRepository).findByPlateNumberAndStatus(plateNumber, TicketStatus.ACTIVE);
+        verify(ticketRepository).findByLotIdAndPlateNumberAndStatus("MAIN", plateNumber, TicketStatus.ACTIVE);
         verify(ticketRepository).save(any(Ticket.class));
     }
 
     @Test
     void checkInShouldReturnErrorWhenPlateNumberIsBlank() {
-        CheckInResult checkInResult = ticketService.checkIn(" ");
+        CheckInResult checkInResult = ticketService.checkIn(null, null, " ");
 
         assertFalse(checkInResult.isSuccess());
         assertNull(checkInResult.getTicket());
@@ -94,19 +115,41 @@ public class TicketServiceTest {
         ticketExisting.setStatus(TicketStatus.ACTIVE);
         ticketExisting.setCheckInTime(LocalDateTime.now());
 
-        when(ticketRepository.findByPlateNumberAndStatus(plateNumber, TicketStatus.ACTIVE)).thenReturn(Optional.of(ticketExisting));
+        when(ticketRepository.findByLotIdAndPlateNumberAndStatus("MAIN", plateNumber, TicketStatus.ACTIVE)).thenReturn(Optional.of(ticketExisting));
 
-        CheckInResult checkInResult = ticketService.checkIn(plateNumber);
+        CheckInResult checkInResult = ticketService.checkIn(null, null, plateNumber);
 
         assertFalse(checkInResult.isSuccess());
         assertNull(checkInResult.getTicket());
         assertNotNull(checkInResult.getError());
         assertEquals("Vehicle already checked in", checkInResult.getError());
 
-        verify(ticketRepository).findByPlateNumberAndStatus(plateNumber, TicketStatus.ACTIVE);
+        verify(ticketRepository).findByLotIdAndPlateNumberAndStatus("MAIN", plateNumber, TicketStatus.ACTIVE);
         verify(ticketRepository, never()).save(any());
     }
 
+    @Test
+    void checkInShouldReportDuplicateWhenActivePlateIndexRejectsInsert() {
+        when(ticketRepository.findByLotIdAndPlateNumberAndStatus("MAIN", "ABC123", TicketStatus.ACTIVE)).thenReturn(Optional.empty());
+        when(ticketRepository.save(any(Ticket.class))).thenThrow(new DataIntegrityViolationException("insert failed",
+                new SQLException("duplicate key value violates unique constraint \"uq_tickets_active_lot_plate\"")));
+
+        CheckInResult checkInResult = ticketService.checkIn(null, null, "ABC123");
+
+        assertFalse(checkInResult.isSuccess());
+        assertEquals("Vehicle already checked in", checkInResult.getError());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void checkInShouldRethrowOtherIntegrityViolations() {
+        when(ticketRepository.findByLotIdAndPlateNumberAndStatus("MAIN", "ABC123", TicketStatus.ACTIVE)).thenReturn(Optional.empty());
+        when(ticketRepository.save(any(Ticket.class))).thenThrow(new DataIntegrityViolationException("insert failed",
+                new SQLException("null value in column \"check_in_time\"")));
+
+        assertThrows(DataIntegrityViolationException.class, () -> ticketService.checkIn(null, null, "ABC123"));
+    }
+
     @Test
     void previewCheckOutShouldReturnTicketAndFeeWhenActiveTicketExist() {
         String plateNumber = "ABC123";
@@ -117,14 +160,14 @@ public class TicketServiceTest {
         ticketExisting.setStatus(TicketStatus.ACTIVE);
         ticketExisting.setCheckInTime(LocalDateTime.of(2025, 11, 15, 8, 0));
 
-        when(ticketRepository.findByPlateNumberAndStatus(plateNumber, TicketStatus.ACTIVE)).thenReturn(Optional.of(ticketExisting));
+        when(ticketRepository.findByLotIdAndPlateNumberAndStatus("MAIN", plateNumber, TicketStatus.ACTIVE)).thenReturn(Optional.of(ticketExisting));
 
         LocalDateTime expectedCheckOutTime = LocalDateTime.of(2025, 11, 15, 10, 15);
 
         FeeResult feeResult = FeeResult.ok(9000);
         when(parkingFeeCalculator.calculateFee(ticketExisting.getCheckInTime(), expectedCheckOutTime)).thenReturn(feeResult);
 
-        CheckOutPreviewResult checkOutPreviewResult = ticketService.checkOutPreview(plateNumber);
+        CheckOutPreviewResult checkOutPreviewResult = ticketService.checkOutPreview(null, plateNumber);
 
         assertTrue(checkOutPreviewResult.isSuccess());
         assertNull(checkOutPreviewResult.getError());
@@ -134,14 +177,14 @@ public class TicketServiceTest {
         assertEquals(expectedCheckOutTime, checkOutPreviewResult.getCheckOutTime());
         assertEquals(9000, checkOutPreviewResult.getTotalPrice());
 
-        verify(ticketRepository).findByPlateNumberAndStatus(plateNumber.toUpperCase(), TicketStatus.ACTIVE);
+        verify(ticketRepository).findByLotIdAndPlateNumberAndStatus("MAIN", plateNumber.toUpperCase(), TicketStatus.ACTIVE);
         verify(parkingFeeCalculator).calculateFee(ticketExisting.getCheckInTime(), expectedCheckOutTime);
         verify(ticketRepository, never()).save(any());
     }
 
     @Test
     void previewCheckOutShouldReturnErrorWhenPlateNumberIsBlank() {
-        CheckOutPreviewResult checkOutPreviewResult = ticketService.checkOutPreview(" ");
+        CheckOutPreviewResult checkOutPreviewResult = ticketService.checkOutPreview(null, " ");
 
         assertFalse(checkOutPreviewResult.isSuccess());
         assertNull(checkOutPreviewResult.getTicketId());
@@ -160,9 +203,9 @@ public class TicketServiceTest {
     void previewCheckOutShouldReturnErrorWhenNoActiveTicketFound() {
         String plateNumber = "ABC123";
 
-        when(ticketRepository.findByPlateNumberAndStatus(plateNumber, TicketStatus.ACTIVE)).thenReturn(Optional.empty());
+        when(ticketRepository.findByLotIdAndPlateNumberAndStatus("MAIN", plateNumber, TicketStatus.ACTIVE)).thenReturn(Optional.empty());
 
-        CheckOutPreviewResult checkOutPreviewResult = ticketService.checkOutPreview(plateNumber);
+        CheckOutPreviewResult checkOutPreviewResult = ticketService.checkOutPreview(null, plateNumber);
         assertFalse(checkOutPreviewResult.isSuccess());
         assertNull(checkOutPreviewResult.getTicketId());
         assertNull(checkOutPreviewResult.getPlateNumber());
@@ -172,7 +215,7 @@ public class TicketServiceTest {
         assertNotNull(checkOutPreviewResult.getError());
         assertEquals("Active ticket not found", checkOutPreviewResult.getError());
 
-        verify(ticketRepository).findByPlateNumberAndStatus(plateNumber.toUpperCase(), TicketStatus.ACTIVE);
+        verify(ticketRepository).findByLotIdAndPlateNumberAndStatus("MAIN", plateNumber.toUpperCase(), TicketStatus.ACTIVE);
         verifyNoInteractions(parkingFeeCalculator);
         verify(ticketRepository, never()).save(any());
     }
@@ -183,11 +226,12 @@ public class TicketServiceTest {
 
         Ticket ticketExisting = new Ticket();
         ticketExisting.setId(ticketId);
+        ticketExisting.setLotId("MAIN");
         ticketExisting.setPlateNumber("ABC123");
         ticketExisting.setStatus(TicketStatus.ACTIVE);
         ticketExisting.setCheckInTime(LocalDateTime.of(2025, 11, 15, 8, 0));
 
-        when(ticketRepository.findById(ticketId)).thenReturn(Optional.of(ticketExisting));
+        when(ticketRepository.findByIdForUpdate(ticketId)).thenReturn(Optional.of(ticketExisting));
 
         LocalDateTime expectedCheckOutTime = LocalDateTime.ofInstant(fixedClock.instant(), fixedClock.getZone());
 
@@ -196,7 +240,7 @@ public class TicketServiceTest {
         when(ticketRepository.save(any(Ticket.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // ConfirmCheckOutResult confirmCheckOutResult = ticketService.confirmCheckOut(ticketId);
-        ConfirmCheckOutResult confirmCheckOutResult = ticketService.confirmCheckOut(ticketId);
+        ConfirmCheckOutResult confirmCheckOutResult = ticketService.confirmCheckOut(ticketId, null, null, null);
 
         assertTrue(confirmCheckOutResult.isSuccess());
         assertNull(confirmCheckOutResult.getError());
@@ -205,14 +249,56 @@ public class TicketServiceTest {
         assertEquals(9000, confirmCheckOutResult.getTicket().getTotalPrice());
         assertEquals(expectedCheckOutTime, confirmCheckOutResult.getTicket().getCheckOutTime());
 
-        verify(ticketRepository).findById(ticketId);
+        verify(ticketRepository).findByIdForUpdate(ticketId);
         verify(parkingFeeCalculator).calculateFee(ticketExisting.getCheckInTime(), expectedCheckOutTime);
         verify(ticketRepository).save(any(Ticket.class));
     }
 
+    @Test
+    void confirmCheckOutShouldAddPaymentToShiftAndRejectClosedShift() {
+        Ticket first = activeTicket(1L, "ABC123");
+        Ticket second = activeTicket(2L, "XYZ999");
+        when(ticketRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(first));
+        when(ticketRepository.findByIdForUpdate(2L)).thenReturn(Optional.of(second));
+        when(parkingFeeCalculator.calculateFee(any(), any())).thenReturn(FeeResult.ok(6000));
+        when(ticketRepository.save(any(Ticket.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ConfirmCheckOutResult result = ticketService.confirmCheckOut(1L, "g2", "SHIFT-1", "cashier-a");
+
+        assertTrue(result.isSuccess());
+        assertEquals("SHIFT-1", result.getTicket().getShiftId());
+        assertEquals("cashier-a", result.getTicket().getCashierId());
+        assertEquals("Shift is assigned to another cashier",
+                ticketService.confirmCheckOut(2L, "g2", "SHIFT-1", "cashier-b").getError());
+
+        ShiftAggregate totals = shiftLedger.close("SHIFT-1");
+        assertEquals(1, totals.getTicketCount());
+        assertEquals(6000, totals.getTotalAmount());
+        assertEquals("Shift is closed", ticketService.confirmCheckOut(2L, "g2", "SHIFT-1", "cashier-a").getError());
+        assertEquals(TicketStatus.ACTIVE, second.getStatus());
+    }
+
+    @Test
+    void confirmCheckOutShouldRejectBlankShiftId() {
+        ConfirmCheckOutResult result = ticketService.confirmCheckOut(1L, null, " ", "cashier-a");
+
+        assertFalse(result.isSuccess());
+        assertEquals("Shift id is required", result.getError());
+        verifyNoInteractions(ticketRepository);
+    }
+
+    @Test
+    void confirmCheckOutShouldRequireCashierWhenShiftIsGiven() {
+        ConfirmCheckOutResult result = ticketService.confirmCheckOut(1L, null, "SHIFT-1", " ");
+
+        assertFalse(result.isSuccess());
+        assertEquals("Cashier id is required", result.getError());
+        verifyNoInteractions(ticketRepository);
+    }
+
     @Test
     void confirmCheckOutShouldReturnErrorWhenTicketIdIsNull() {
-        ConfirmCheckOutResult result = ticketService.confirmCheckOut(null);
+        ConfirmCheckOutResult result = ticketService.confirmCheckOut(null, null, null, null);
 
         assertFalse(result.isSuccess());
         assertEquals("Ticket id is required", result.getError());
@@ -226,16 +312,16 @@ public class TicketServiceTest {
     void confirmCheckOutShouldReturnErrorWhenTicketNotFound() {
         Long ticketId = 99L;
 
-        when(ticketRepository.findById(ticketId))
+        when(ticketRepository.findByIdForUpdate(ticketId))
                 .thenReturn(Optional.empty());
 
-        ConfirmCheckOutResult result = ticketService.confirmCheckOut(ticketId);
+        ConfirmCheckOutResult result = ticketService.confirmCheckOut(ticketId, null, null, null);
 
         assertFalse(result.isSuccess());
         assertEquals("Ticket not found", result.getError());
         assertNull(result.getTicket());
 
-        verify(ticketRepository).findById(ticketId);
+        verify(ticketRepository).findByIdForUpdate(ticketId);
         verifyNoInteractions(parkingFeeCalculator);
         verify(ticketRepository, never()).save(any());
     }
@@ -252,16 +338,16 @@ public class TicketServiceTest {
         ticketExisting.setCheckOutTime(LocalDateTime.of(2025, 11, 15, 9, 0));
         ticketExisting.setTotalPrice(3000);
 
-        when(ticketRepository.findById(ticketId))
+        when(ticketRepository.findByIdForUpdate(ticketId))
                 .thenReturn(Optional.of(ticketExisting));
 
-        ConfirmCheckOutResult result = ticketService.confirmCheckOut(ticketId);
+        ConfirmCheckOutResult result = ticketService.confirmCheckOut(ticketId, null, null, null);
 
         assertFalse(result.isSuccess());
         assertEquals("Ticket is not active", result.getError());
         assertNull(result.getTicket());
 
-        verify(ticketRepository).findById(ticketId);
+        verify(ticketRepository).findByIdForUpdate(ticketId);
         verifyNoInteractions(parkingFeeCalculator);
         verify(ticketRepository, never()).save(any());
     }
@@ -272,11 +358,12 @@ public class TicketServiceTest {
 
         Ticket ticketExisting = new Ticket();
         ticketExisting.setId(ticketId);
+        ticketExisting.setLotId("MAIN");
         ticketExisting.setPlateNumber("ABC123");
         ticketExisting.setStatus(TicketStatus.ACTIVE);
         ticketExisting.setCheckInTime(LocalDateTime.of(2025, 11, 15, 8, 0));
 
-        when(ticketRepository.findById(ticketId))
+        when(ticketRepository.findByIdForUpdate(ticketId))
                 .thenReturn(Optional.of(ticketExisting));
 
         LocalDateTime expectedCheckOutTime
@@ -286,15 +373,25 @@ public class TicketServiceTest {
         when(parkingFeeCalculator.calculateFee(ticketExisting.getCheckInTime(), expectedCheckOutTime))
                 .thenReturn(errorResult);
 
-        ConfirmCheckOutResult result = ticketService.confirmCheckOut(ticketId);
+        ConfirmCheckOutResult result = ticketService.confirmCheckOut(ticketId, null, null, null);
 
         assertFalse(result.isSuccess());
         assertEquals("Invalid time range", result.getError());
         assertNull(result.getTicket());
 
-        verify(ticketRepository).findById(ticketId);
+        verify(ticketRepository).findByIdForUpdate(ticketId);
         verify(parkingFeeCalculator).calculateFee(ticketExisting.getCheckInTime(), expectedCheckOutTime);
         verify(ticketRepository, never()).save(any());
     }
 
+
+    private Ticket activeTicket(Long id, String plateNumber) {
+        Ticket ticket = new Ticket();
+        ticket.setId(id);
+        ticket.setLotId("MAIN");
+        ticket.setPlateNumber(plateNumber);
+        ticket.setStatus(TicketStatus.ACTIVE);
+        ticket.setCheckInTime(LocalDateTime.of(2025, 11, 15, 8, 0));
+        return ticket;
+    }
 }
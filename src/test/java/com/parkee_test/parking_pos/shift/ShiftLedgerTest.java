@@ -0,0 +1,154 @@
+package com.parkee_test.parking_pos.shift;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class ShiftLedgerTest {
+
+    @Test
+    void closeShouldIncludeEveryPaymentAcceptedBeforeIt() throws Exception {
+        ShiftLedger ledger = new ShiftLedger(shiftId -> ShiftLedger.openTotals(null, ShiftAggregate.empty()), 5000);
+        AtomicLong acceptedCount = new AtomicLong();
+        AtomicLong acceptedSum = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> workers = new ArrayList<>();
+        try {
+            for (int w = 0; w < 8; w++) {
+                int worker = w;
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 5000; i++) {
+                        ShiftEntry entry = ledger.enter("SHIFT-1", "cashier-a");
+                        if (!entry.isSuccess()) {
+                            return null;
+                        }
+                        int amount = 3000 + ((worker * 5000 + i) % 10) * 3000;
+                        entry.record(amount);
+                        acceptedCount.incrementAndGet();
+                        acceptedSum.addAndGet(amount);
+                        entry.leave();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            Thread.sleep(5);
+            ShiftAggregate closed = ledger.close("SHIFT-1");
+            for (Future<?> worker : workers) {
+                worker.get(30, TimeUnit.SECONDS);
+            }
+
+            assertEquals(acceptedCount.get(), closed.getTicketCount());
+            assertEquals(acceptedSum.get(), closed.getTotalAmount());
+            assertTrue(closed.getTicketCount() == 0 || closed.getMinAmount() == 3000);
+            assertEquals("Shift is closed", ledger.enter("SHIFT-1", "cashier-a").getError());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void unseenShiftShouldBeSeededFromLoader() {
+        ShiftLedger ledger = new ShiftLedger(shiftId -> ShiftLedger.openTotals(null,
+                new ShiftAggregate(2L, 9000L, 3000, 6000)), 1000);
+
+        ShiftEntry entry = ledger.enter("SHIFT-2", "cashier-a");
+        assertTrue(entry.isSuccess());
+        entry.record(12000);
+        entry.leave();
+
+        ShiftAggregate totals = ledger.close("SHIFT-2");
+        assertEquals(3, totals.getTicketCount());
+        assertEquals(21000, totals.getTotalAmount());
+        assertEquals(3000, totals.getMinAmount());
+        assertEquals(12000, totals.getMaxAmount());
+        assertEquals("Shift is assigned to another cashier", new ShiftLedger(
+                shiftId -> ShiftLedger.openTotals("cashier-a", ShiftAggregate.empty()), 1000).enter("SHIFT-3", "cashier-b")
+                .getError());
+    }
+
+    @Test
+    void leaveAfterEvictionShouldNotUnderflowReloadedShift() throws Exception {
+        ShiftLedger ledger = new ShiftLedger(shiftId -> ShiftLedger.openTotals(null, ShiftAggregate.empty()), 5000);
+        ShiftEntry stale = ledger.enter("SHIFT-4", "cashier-a");
+        ledger.close("SHIFT-4");
+        ledger.evict("SHIFT-4");
+        stale.leave();
+
+        ShiftEntry entry = ledger.enter("SHIFT-4", "cashier-a");
+        assertTrue(entry.isSuccess());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<ShiftAggregate> closing = executor.submit(() -> ledger.close("SHIFT-4"));
+            Thread.sleep(20);
+            entry.record(3000);
+            entry.leave();
+
+            // The close had to wait for the entry; an underflowed in-flight count would have let it return empty.
+            assertEquals(1, closing.get(5, TimeUnit.SECONDS).getTicketCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shiftClosedOnAnotherNodeShouldRejectEntry() {
+        Set<String> closedElsewhere = ConcurrentHashMap.newKeySet();
+        ShiftLedger ledger = new ShiftLedger(shiftId -> ShiftLedger.openTotals(null, ShiftAggregate.empty()),
+                closedElsewhere::contains, 0, null, 1000);
+        ShiftEntry entry = ledger.enter("SHIFT-5", "cashier-a");
+        assertTrue(entry.isSuccess());
+        entry.leave();
+
+        closedElsewhere.add("SHIFT-5");
+
+        assertEquals("Shift is closed", ledger.enter("SHIFT-5", "cashier-a").getError());
+        assertTrue(ledger.isClosed("SHIFT-5"));
+    }
+
+    @Test
+    void closedCheckShouldRunOncePerIntervalPerShift() {
+        AtomicInteger checks = new AtomicInteger();
+        ShiftLedger ledger = new ShiftLedger(shiftId -> ShiftLedger.openTotals(null, ShiftAggregate.empty()),
+                shiftId -> checks.incrementAndGet() < 0, 60_000, null, 1000);
+
+        for (int i = 0; i < 10; i++) {
+            ShiftEntry entry = ledger.enter("SHIFT-6", "cashier-a");
+            assertTrue(entry.isSuccess());
+            entry.leave();
+        }
+
+        assertEquals(0, checks.get());
+    }
+
+    @Test
+    void closeShouldRecountWhenOtherNodesWriteTheShift() {
+        // Another node recorded two payments this node never saw.
+        ShiftAggregate database = ShiftAggregate.empty().plus(3000).plus(5000).plus(4000);
+        ShiftLedger ledger = new ShiftLedger(shiftId -> ShiftLedger.openTotals(null, ShiftAggregate.empty()),
+                shiftId -> false, 0, shiftId -> database, 1000);
+        ShiftEntry entry = ledger.enter("SHIFT-7", "cashier-a");
+        entry.record(4000);
+        entry.leave();
+
+        ShiftAggregate closed = ledger.close("SHIFT-7");
+
+        assertEquals(3, closed.getTicketCount());
+        assertEquals(12000, closed.getTotalAmount());
+        assertEquals("Shift is closed", ledger.enter("SHIFT-7", "cashier-a").getError());
+    }
+}
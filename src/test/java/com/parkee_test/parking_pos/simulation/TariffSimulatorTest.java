@@ -0,0 +1,151 @@
+package com.parkee_test.parking_pos.simulation;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class TariffSimulatorTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 11, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2025, 12, 1, 0, 0);
+
+    @Test
+    void hourlyTariffShouldRoundUpAndApplyDailyCap() {
+        HourlyTariff tariff = new HourlyTariff(5000, 2000, 20000);
+        long checkIn = epoch(LocalDateTime.of(2025, 11, 15, 9, 30));
+
+        assertEquals(5000, tariff.price(checkIn, checkIn));
+        assertEquals(5000, tariff.price(checkIn, checkIn + 60 * 60));
+        assertEquals(7000, tariff.price(checkIn, checkIn + 75 * 60));
+        assertEquals(20000, tariff.price(checkIn, checkIn + 20 * 3600));
+        assertEquals(25000, tariff.price(checkIn, checkIn + 25 * 3600));
+        assertEquals(TariffFunction.INVALID, tariff.price(checkIn, checkIn - 1));
+    }
+
+    @Test
+    void simulationShouldReportDeltaByCheckOutHourAndDuration() {
+        SyntheticTicketSource source = new SyntheticTicketSource(3);
+        TariffSimulator simulator = new TariffSimulator(source, 2, 1);
+
+        TariffSimulationReport report = simulator.simulate(FROM, TO, new HourlyTariff(4000, 4000, 0));
+
+        assertEquals(3, report.getTickets());
+        assertEquals(3000 + 6000 + 9000, report.getCurrentRevenue());
+        assertEquals(4000 + 8000 + 12000, report.getCandidateRevenue());
+        assertEquals(6000, report.getDelta());
+
+        RevenueDeltaRow tenOClock = report.getByCheckOutHour().get(10);
+        assertEquals(1, tenOClock.getTickets());
+        assertEquals(2000, tenOClock.getDelta());
+
+        RevenueDeltaRow twoToThreeHours = report.getByDuration().get(2);
+        assertEquals("2-3h", twoToThreeHours.getLabel());
+        assertEquals(1, twoToThreeHours.getTickets());
+        assertEquals(3000, twoToThreeHours.getDelta());
+    }
+
+    @Test
+    void parallelScanShouldMatchSequentialScan() {
+        SyntheticTicketSource source = new SyntheticTicketSource(200_000);
+        HourlyTariff candidate = new HourlyTariff(3500, 2500, 25000);
+
+        TariffSimulationReport sequential = new TariffSimulator(source, 1, Long.MAX_VALUE).simulate(FROM, TO, candidate);
+        TariffSimulationReport parallel = new TariffSimulator(source, Runtime.getRuntime().availableProcessors(), 4_096)
+                .simulate(FROM, TO, candidate);
+
+        assertEquals(sequential.getTickets(), parallel.getTickets());
+        assertEquals(sequential.getCurrentRevenue(), parallel.getCurrentRevenue());
+        assertEquals(sequential.getCandidateRevenue(), parallel.getCandidateRevenue());
+        for (int hour = 0; hour < 24; hour++) {
+            assertEquals(sequential.getByCheckOutHour().get(hour).getDelta(), parallel.getByCheckOutHour().get(hour).getDelta());
+        }
+    }
+
+    @Test
+    void emptyRangeShouldReturnZeroTotals() {
+        TariffSimulationReport report = new TariffSimulator(new SyntheticTicketSource(0), 2, 10)
+                .simulate(FROM, TO, new HourlyTariff(3000, 3000, 0));
+
+        assertEquals(0, report.getTickets());
+        assertEquals(0, report.getDelta());
+    }
+
+    @Test
+    void concurrentSimulationsShouldShareTheConnectionCap() throws Exception {
+        AtomicInteger open = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        SyntheticTicketSource synthetic = new SyntheticTicketSource(4_000);
+        CompletedTicketSource source = new CompletedTicketSource() {
+            @Override
+            public IdRange idRange(LocalDateTime from, LocalDateTime to) {
+                return synthetic.idRange(from, to);
+            }
+
+            @Override
+            public void scan(LocalDateTime from, LocalDateTime to, long fromId, long toIdExclusive,
+                    TicketRowHandler handler) {
+                peak.accumulateAndGet(open.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(2);
+                    synthetic.scan(from, to, fromId, toIdExclusive, handler);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    open.decrementAndGet();
+                }
+            }
+        };
+        ExecutorService requests = Executors.newFixedThreadPool(4);
+        try (TariffSimulator simulator = new TariffSimulator(source, 2, 250)) {
+            List<Future<TariffSimulationReport>> reports = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                reports.add(requests.submit(() -> simulator.simulate(FROM, TO, new HourlyTariff(3000, 3000, 0))));
+            }
+            for (Future<TariffSimulationReport> report : reports) {
+                assertEquals(4_000, report.get(30, TimeUnit.SECONDS).getTickets());
+            }
+        } finally {
+            requests.shutdownNow();
+        }
+
+        assertTrue(peak.get() <= 2, () -> peak.get() + " scans were open at once");
+    }
+
+    private static long epoch(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static class SyntheticTicketSource implements CompletedTicketSource {
+
+        private final long tickets;
+
+        SyntheticTicketSource(long tickets) {
+            this.tickets = tickets;
+        }
+
+        @Override
+        public IdRange idRange(LocalDateTime from, LocalDateTime to) {
+            return new IdRange(1, tickets);
+        }
+
+        @Override
+        public void scan(LocalDateTime from, LocalDateTime to, long fromId, long toIdExclusive, TicketRowHandler handler) {
+            long base = epoch(LocalDateTime.of(2025, 11, 15, 8, 0));
+            for (long id = fromId; id < toIdExclusive; id++) {
+                long hours = (id - 1) % 24 + 1;
+                long checkIn = base + (id % 97) * 60;
+                handler.accept(checkIn, checkIn + hours * 3600, (int) hours * 3000);
+            }
+        }
+    }
+}
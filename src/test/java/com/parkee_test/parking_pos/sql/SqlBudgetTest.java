@@ -0,0 +1,138 @@
+package com.parkee_test.parking_pos.sql;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.parkee_test.parking_pos.cache.ActiveTicketCache;
+import com.parkee_test.parking_pos.config.CacheConfig;
+import com.parkee_test.parking_pos.config.DataSourceRoutingConfig;
+import com.parkee_test.parking_pos.config.LotConfig;
+import com.parkee_test.parking_pos.config.ShiftConfig;
+import com.parkee_test.parking_pos.config.SqlMonitoringConfig;
+import com.parkee_test.parking_pos.config.TimeConfig;
+import com.parkee_test.parking_pos.service.CheckInResult;
+import com.parkee_test.parking_pos.service.ParkingFeeCalculator;
+import com.parkee_test.parking_pos.service.TicketService;
+
+// Statements are counted at the JDBC level against H2, so a change that adds a query or an N+1 loop fails here.
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+// Check the closed flag on every shift confirm, the worst case of the periodic check.
+@TestPropertySource(properties = "parking.shift.closed-check-interval=0s")
+@Import({SqlMonitoringConfig.class, TicketService.class, ParkingFeeCalculator.class, TimeConfig.class,
+    LotConfig.class, CacheConfig.class, DataSourceRoutingConfig.class, ShiftConfig.class})
+public class SqlBudgetTest {
+
+    private static final int CHECK_IN_BUDGET = 2;
+    private static final int PREVIEW_BUDGET = 1;
+    private static final int CONFIRM_BUDGET = 2;
+    // Plus the shift closed check.
+    private static final int SHIFT_CONFIRM_BUDGET = CONFIRM_BUDGET + 1;
+    // A node that has not seen the shift yet also seeds its totals: the summary lookup and the tickets aggregate.
+    private static final int FIRST_SHIFT_CONFIRM_BUDGET = SHIFT_CONFIRM_BUDGET + 2;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private SqlStatementRecorder recorder;
+
+    @Autowired
+    private ActiveTicketCache activeTicketCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void checkInShouldStayWithinBudget() {
+        SqlRequestStats stats = recorder.capture(() -> assertTrue(ticketService.checkIn("MAIN", "g1", "B1001XY").isSuccess()));
+
+        assertWithinBudget(CHECK_IN_BUDGET, stats);
+    }
+
+    @Test
+    void duplicateCheckInShouldStayWithinBudget() {
+        assertTrue(ticketService.checkIn("MAIN", "g1", "B1002XY").isSuccess());
+
+        SqlRequestStats stats = recorder.capture(() -> ticketService.checkIn("MAIN", "g1", "B1002XY"));
+
+        assertWithinBudget(CHECK_IN_BUDGET, stats);
+    }
+
+    @Test
+    void previewShouldStayWithinBudget() {
+        assertTrue(ticketService.checkIn("SOUTH", "g1", "B1003XY").isSuccess());
+        // The check-in warmed the near-cache; measure the database path a cold node takes.
+        activeTicketCache.onMissedInvalidations();
+
+        SqlRequestStats stats = recorder.capture(() ->
+                assertTrue(ticketService.checkOutPreview("SOUTH", "B1003XY").isSuccess()));
+
+        assertTrue(stats.getStatementCount() > 0, "preview was served from the near-cache");
+        assertWithinBudget(PREVIEW_BUDGET, stats);
+    }
+
+    @Test
+    void untrackedStatementsShouldNotCountAgainstBudget() {
+        SqlRequestStats stats = recorder.capture(() -> {
+            jdbcTemplate.queryForObject(SqlStatementRecorder.UNTRACKED + "SELECT 1", Integer.class);
+            jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+        });
+
+        assertEquals(1, stats.getStatementCount());
+    }
+
+    @Test
+    void confirmShouldStayWithinBudget() {
+        CheckInResult checkIn = ticketService.checkIn("MAIN", "g1", "B1004XY");
+        assertTrue(checkIn.isSuccess());
+
+        SqlRequestStats stats = recorder.capture(() ->
+                assertTrue(ticketService.confirmCheckOut(checkIn.getTicket().getId(), "g2", null, null).isSuccess()));
+
+        assertWithinBudget(CONFIRM_BUDGET, stats);
+    }
+
+    @Test
+    void shiftConfirmShouldStayWithinBudget() {
+        CheckInResult first = ticketService.checkIn("MAIN", "g1", "B1005XY");
+        CheckInResult second = ticketService.checkIn("MAIN", "g1", "B1006XY");
+        assertTrue(first.isSuccess() && second.isSuccess());
+
+        SqlRequestStats firstSight = recorder.capture(() -> assertTrue(
+                ticketService.confirmCheckOut(first.getTicket().getId(), "g2", "S-BUDGET", "C7").isSuccess()));
+        SqlRequestStats steady = recorder.capture(() -> assertTrue(
+                ticketService.confirmCheckOut(second.getTicket().getId(), "g2", "S-BUDGET", "C7").isSuccess()));
+
+        assertWithinBudget(FIRST_SHIFT_CONFIRM_BUDGET, firstSight);
+        assertWithinBudget(SHIFT_CONFIRM_BUDGET, steady);
+    }
+
+    @Test
+    void repeatedStatementsShouldBeReportedAsPossibleNPlusOne() {
+        SqlRequestStats stats = recorder.capture(() -> {
+            for (int i = 0; i < 3; i++) {
+                ticketService.checkOutPreview("EAST", "B20" + i + "XY");
+            }
+        });
+
+        Map<String, Integer> repeated = stats.repeatedStatements(3);
+        assertEquals(1, repeated.size());
+        assertEquals(3, repeated.values().iterator().next());
+    }
+
+    private static void assertWithinBudget(int budget, SqlRequestStats stats) {
+        assertTrue(stats.getStatementCount() <= budget,
+                () -> stats.getStatementCount() + " statements over a budget of " + budget + ": " + stats.getExecutions());
+    }
+}
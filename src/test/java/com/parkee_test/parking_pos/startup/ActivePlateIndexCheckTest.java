@@ -0,0 +1,78 @@
+package com.parkee_test.parking_pos.startup;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.parkee_test.parking_pos.repository.TicketConstraints;
+
+@ExtendWith(MockitoExtension.class)
+public class ActivePlateIndexCheckTest {
+
+    private static final String PARTIAL = "CREATE UNIQUE INDEX uq_tickets_active_lot_plate ON public.tickets USING btree "
+            + "(lot_id, plate_number) WHERE (((status)::text = 'ACTIVE'::text) AND (origin_node IS NULL))";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ActivePlateIndexCheck check;
+
+    @BeforeEach
+    void setUp() {
+        check = new ActivePlateIndexCheck(jdbcTemplate);
+    }
+
+    @Test
+    void presentPartialIndexShouldBeLeftAlone() {
+        indexDefinitions(List.of(PARTIAL));
+
+        check.ensureIndex();
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void missingIndexShouldBeCreated() {
+        indexDefinitions(List.of());
+
+        check.ensureIndex();
+
+        verify(jdbcTemplate).execute(ActivePlateIndexCheck.CREATE_INDEX);
+    }
+
+    @Test
+    void missingIndexThatCannotBeCreatedShouldFailStartup() {
+        indexDefinitions(List.of());
+        doThrow(new DataIntegrityViolationException("could not create unique index"))
+                .when(jdbcTemplate).execute(ActivePlateIndexCheck.CREATE_INDEX);
+
+        assertThrows(IllegalStateException.class, check::ensureIndex);
+    }
+
+    @Test
+    void nonPartialIndexShouldFailStartup() {
+        indexDefinitions(List.of("CREATE UNIQUE INDEX uq_tickets_active_lot_plate ON public.tickets USING btree "
+                + "(lot_id, plate_number)"));
+
+        assertThrows(IllegalStateException.class, check::ensureIndex);
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    private void indexDefinitions(List<String> definitions) {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq(TicketConstraints.ACTIVE_PLATE_INDEX)))
+                .thenReturn(definitions);
+    }
+}
@@ -0,0 +1,79 @@
+package com.parkee_test.parking_pos.startup;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.parkee_test.parking_pos.entity.TicketStatus;
+import com.parkee_test.parking_pos.repository.TicketRepository;
+import com.parkee_test.parking_pos.service.CheckOutPreviewResult;
+import com.parkee_test.parking_pos.service.ParkingFeeCalculator;
+import com.parkee_test.parking_pos.service.TicketService;
+
+@ExtendWith(MockitoExtension.class)
+public class TicketPathWarmupTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private TicketService ticketService;
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private WarmupProperties properties;
+
+    private TicketPathWarmup warmup;
+
+    @BeforeEach
+    void setUp() {
+        properties = new WarmupProperties();
+        properties.setFeeIterations(1_000);
+        properties.setQueryIterations(10);
+        properties.setSerializationIterations(100);
+        warmup = new TicketPathWarmup(new ParkingFeeCalculator(), ticketRepository, ticketService,
+                new ObjectMapper().findAndRegisterModules(), dataSource, eventPublisher, properties);
+    }
+
+    @Test
+    void warmUpShouldExerciseReadPathsWithoutWritingTickets() throws Exception {
+        when(ticketService.checkOutPreview(anyString(), anyString())).thenReturn(CheckOutPreviewResult.error("Active ticket not found"));
+
+        warmup.run(new DefaultApplicationArguments());
+
+        WarmupReport report = warmup.getReport();
+        assertNotNull(report);
+        assertEquals(0, report.getPrefilledConnections());
+        assertTrue(report.getTotalMillis() >= 0);
+
+        verify(ticketRepository, times(10)).findByLotIdAndPlateNumberAndStatus("__WARMUP__", "__WARMUP__", TicketStatus.ACTIVE);
+        verify(ticketRepository, times(10)).findById(anyLong());
+        verify(ticketService, times(10)).checkOutPreview("__WARMUP__", "__WARMUP__");
+        verify(ticketRepository, never()).save(any());
+        verify(ticketService, never()).checkIn(any(), any(), any());
+        verify(ticketService, never()).confirmCheckOut(any(), any(), any(), any());
+        verify(eventPublisher).publishEvent(any(AvailabilityChangeEvent.class));
+    }
+}